@@ -1,12 +1,13 @@
 package org.example.expert.aop;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.example.expert.aop.audit.AdminAuditPipeline;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -14,13 +15,13 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.example.expert.security.userdetails.UserPrincipal;
 
-import java.time.Instant;
-
 @Aspect
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class AdminApiLoggingAspect {
 
+    private final AdminAuditPipeline adminAuditPipeline;
 
     @Around("execution(* org.example.expert.domain.comment.controller.CommentAdminController.*(..)) || " +
             "execution(* org.example.expert.domain.user.controller.UserAdminController.*(..))")
@@ -35,25 +36,21 @@ public class AdminApiLoggingAspect {
         if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
             userId = principal.getId();
         }
-        String url = request.getRequestURI();
-        String method = request.getMethod();
-        String requestBody = new ObjectMapper().writeValueAsString(joinPoint.getArgs());
 
         Object result = null;
+        String errorType = null;
 
         try {
             result = joinPoint.proceed();
             return result;
         } catch (Throwable ex) {
+            errorType = ex.getClass().getSimpleName();
             log.error("Admin API 호출 중 예외 발생", ex);
             throw ex;
         } finally {
-            String responseBody = new ObjectMapper().writeValueAsString(result);
-
-            log.info("[ADMIN API] userId={} method={} uri={} 요청시각={} ", userId, method, url, Instant.ofEpochMilli(requestedTime));
-            log.info("️ 요청 본문: {}", requestBody);
-            log.info(" 응답 본문: {}", responseBody);
-
+            // 본문 직렬화는 이 스레드에서 끝내고, 출력만 파이프라인 소비자 스레드에서 처리
+            adminAuditPipeline.publish(userId, request.getMethod(), request.getRequestURI(), requestedTime,
+                    System.currentTimeMillis() - requestedTime, joinPoint.getArgs(), result, errorType);
         }
     }
 }
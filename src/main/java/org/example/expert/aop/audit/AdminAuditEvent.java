@@ -0,0 +1,47 @@
+package org.example.expert.aop.audit;
+
+// 링 버퍼에 미리 할당해 재사용하는 슬롯
+// 본문은 요청 스레드가 직렬화한 문자열이거나, 발행 후 바뀔 수 없는 값(AuditSnapshots)의 참조다
+// 따라서 소비자 스레드는 변경 가능한 요청 객체에 접근하지 않는다
+class AdminAuditEvent {
+
+    Long userId;
+    String method;
+    String uri;
+    long requestedAt;
+    long durationMillis;
+    String requestBody;
+    String responseBody;
+    String errorType;
+    boolean requestDeferred;
+    Object requestValue;
+    boolean responseDeferred;
+    Object responseValue;
+
+    void set(Long userId, String method, String uri, long requestedAt, long durationMillis,
+             String requestBody, String responseBody, String errorType) {
+        set(userId, method, uri, requestedAt, durationMillis, requestBody, responseBody, errorType,
+                false, null, false, null);
+    }
+
+    void set(Long userId, String method, String uri, long requestedAt, long durationMillis,
+             String requestBody, String responseBody, String errorType,
+             boolean requestDeferred, Object requestValue, boolean responseDeferred, Object responseValue) {
+        this.userId = userId;
+        this.method = method;
+        this.uri = uri;
+        this.requestedAt = requestedAt;
+        this.durationMillis = durationMillis;
+        this.requestBody = requestBody;
+        this.responseBody = responseBody;
+        this.errorType = errorType;
+        this.requestDeferred = requestDeferred;
+        this.requestValue = requestValue;
+        this.responseDeferred = responseDeferred;
+        this.responseValue = responseValue;
+    }
+
+    void clear() {
+        set(null, null, null, 0, 0, null, null, null);
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.expert.aop.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Admin API 감사 로그 파이프라인
+// 출력은 백그라운드 소비자가 배치로 처리한다
+// 인자/응답이 불변 값(레코드, 문자열 등)이면 참조 복사본만 슬롯에 넘기고 직렬화도 소비자가 한다
+// 그 밖의 객체는 요청이 끝난 뒤 변경되거나 지연 로딩될 수 있어 요청 스레드에서 한도 내로 직렬화한 문자열만 넘긴다
+@Slf4j
+@Component
+public class AdminAuditPipeline {
+
+    private final ObjectMapper objectMapper;
+    private final List<AdminAuditSink> sinks;
+
+    @Value("${admin-audit.buffer-size:8192}")
+    private int bufferSize;
+
+    @Value("${admin-audit.batch-size:256}")
+    private int batchSize;
+
+    @Value("${admin-audit.overflow-policy:DROP}")
+    private AuditOverflowPolicy overflowPolicy;
+
+    @Value("${admin-audit.sample-rate:0.1}")
+    private double sampleRate;
+
+    @Value("${admin-audit.block-timeout-ms:5}")
+    private long blockTimeoutMillis;
+
+    @Value("${admin-audit.idle-wait-ms:10}")
+    private long idleWaitMillis;
+
+    @Value("${admin-audit.body.max-bytes:4096}")
+    private int bodyMaxBytes;
+
+    @Value("${admin-audit.body.redact-fields:password,oldPassword,newPassword}")
+    private Set<String> redactedFields;
+
+    @Value("${admin-audit.body.sample-rate:1.0}")
+    private double bodySampleRate;
+
+    private AdminAuditRingBuffer buffer;
+    private AuditBodyCapture bodyCapture;
+    private Thread consumer;
+    private volatile boolean running;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder deferredBodies = new LongAdder();
+
+    public AdminAuditPipeline(ObjectMapper objectMapper, List<AdminAuditSink> sinks) {
+        this.objectMapper = objectMapper;
+        this.sinks = sinks;
+    }
+
+    @PostConstruct
+    public void start() {
+        buffer = new AdminAuditRingBuffer(bufferSize);
+        bodyCapture = new AuditBodyCapture(objectMapper, bodyMaxBytes, redactedFields, bodySampleRate);
+        running = true;
+        consumer = new Thread(this::consume, "admin-audit-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public void publish(Long userId, String method, String uri, long requestedAt, long durationMillis,
+                        Object[] args, Object result, String errorType) {
+        if (overflowPolicy == AuditOverflowPolicy.SAMPLE
+                && buffer.depth() >= buffer.capacity() / 2
+                && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            sampledOut.increment();
+            return;
+        }
+
+        Object[] argsSnapshot = args == null ? null : args.clone();
+        boolean deferRequest = AuditSnapshots.isImmutable(argsSnapshot);
+        boolean deferResponse = AuditSnapshots.isImmutable(result);
+        String requestBody = deferRequest ? null : bodyCapture.capture(args);
+        String responseBody = deferResponse ? null : bodyCapture.capture(result);
+        Object requestValue = deferRequest ? argsSnapshot : null;
+        Object responseValue = deferResponse ? result : null;
+
+        boolean accepted = buffer.tryPublish(event ->
+                event.set(userId, method, uri, requestedAt, durationMillis, requestBody, responseBody, errorType,
+                        deferRequest, requestValue, deferResponse, responseValue));
+
+        if (!accepted && overflowPolicy == AuditOverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+            while (!accepted && System.nanoTime() < deadline) {
+                LockSupport.unpark(consumer);
+                LockSupport.parkNanos(50_000);
+                accepted = buffer.tryPublish(event ->
+                        event.set(userId, method, uri, requestedAt, durationMillis, requestBody, responseBody, errorType,
+                                deferRequest, requestValue, deferResponse, responseValue));
+            }
+        }
+
+        if (accepted) {
+            published.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    public AdminAuditPipelineStats stats() {
+        return new AdminAuditPipelineStats(
+                overflowPolicy,
+                buffer.capacity(),
+                buffer.depth(),
+                published.sum(),
+                dropped.sum(),
+                sampledOut.sum(),
+                written.sum(),
+                bodyCapture.getTruncated(),
+                bodyCapture.getSkipped(),
+                deferredBodies.sum()
+        );
+    }
+
+    private void consume() {
+        List<AdminAuditRecord> batch = new ArrayList<>(batchSize);
+        while (running || buffer.depth() > 0) {
+            buffer.drain(batchSize, event -> batch.add(toRecord(event)));
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(idleWaitMillis));
+                continue;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<AdminAuditRecord> batch) {
+        for (AdminAuditSink sink : sinks) {
+            try {
+                sink.write(batch);
+            } catch (Exception e) {
+                log.warn("감사 로그 기록 실패: sink={}", sink.getClass().getSimpleName(), e);
+            }
+        }
+        written.add(batch.size());
+    }
+
+    // 소비자 스레드에서만 호출되므로 캡처 버퍼도 소비자 스레드 것 하나만 쓴다
+    private AdminAuditRecord toRecord(AdminAuditEvent event) {
+        return new AdminAuditRecord(
+                event.userId,
+                event.method,
+                event.uri,
+                event.requestedAt,
+                event.durationMillis,
+                event.requestDeferred ? captureDeferred(event.requestValue) : event.requestBody,
+                event.responseDeferred ? captureDeferred(event.responseValue) : event.responseBody,
+                event.errorType
+        );
+    }
+
+    private String captureDeferred(Object value) {
+        deferredBodies.increment();
+        return bodyCapture.capture(value);
+    }
+}
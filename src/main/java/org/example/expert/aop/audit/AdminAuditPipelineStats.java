@@ -0,0 +1,15 @@
+package org.example.expert.aop.audit;
+
+public record AdminAuditPipelineStats(
+        AuditOverflowPolicy overflowPolicy,
+        int capacity,
+        long queueDepth,
+        long published,
+        long dropped,
+        long sampledOut,
+        long written,
+        long truncatedBodies,
+        long skippedBodies,
+        long deferredBodies
+) {
+}
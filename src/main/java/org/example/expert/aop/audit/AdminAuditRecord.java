@@ -0,0 +1,14 @@
+package org.example.expert.aop.audit;
+
+// 직렬화가 끝난 감사 로그 한 건
+public record AdminAuditRecord(
+        Long userId,
+        String method,
+        String uri,
+        long requestedAt,
+        long durationMillis,
+        String requestBody,
+        String responseBody,
+        String errorType
+) {
+}
@@ -0,0 +1,76 @@
+package org.example.expert.aop.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+// 다중 생산자 / 단일 소비자 고정 크기 링 버퍼 (락 없음)
+// 슬롯마다 시퀀스 번호를 두어 생산자는 CAS 로 자리를 잡고, 쓰기를 마친 뒤 시퀀스를 공개한다
+class AdminAuditRingBuffer {
+
+    private final AdminAuditEvent[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    AdminAuditRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new AdminAuditEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new AdminAuditEvent();
+            sequences.set(i, i);
+        }
+    }
+
+    // 가득 차 있으면 false
+    boolean tryPublish(Consumer<AdminAuditEvent> writer) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    writer.accept(slots[index]);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    // 소비자 스레드 전용
+    int drain(int maxEvents, Consumer<AdminAuditEvent> reader) {
+        int drained = 0;
+        long position = head;
+        while (drained < maxEvents) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            AdminAuditEvent event = slots[index];
+            reader.accept(event);
+            event.clear();
+            sequences.set(index, position + slots.length);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    long depth() {
+        return Math.max(0, tail.get() - head);
+    }
+}
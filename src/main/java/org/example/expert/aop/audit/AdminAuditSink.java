@@ -0,0 +1,9 @@
+package org.example.expert.aop.audit;
+
+import java.util.List;
+
+// 소비자 스레드가 배치 단위로 기록을 넘기는 대상
+public interface AdminAuditSink {
+
+    void write(List<AdminAuditRecord> records);
+}
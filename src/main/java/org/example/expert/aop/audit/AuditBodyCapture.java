@@ -0,0 +1,163 @@
+package org.example.expert.aop.audit;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// 감사 로그 본문 캡처기
+// 직렬화 결과를 고정 크기 버퍼에 바로 흘려 쓰고, 한도를 넘으면 직렬화를 중단해 잘라낸다
+// 요청 스레드에서 호출되므로 버퍼는 스레드별로 하나씩 두고 재사용한다
+public class AuditBodyCapture {
+
+    static final String FILTER_ID = "adminAuditRedaction";
+    static final String REDACTED = "***";
+    static final String TRUNCATED_SUFFIX = "...(truncated)";
+    static final String FAILED_PREFIX = "<직렬화 실패: ";
+
+    private final ObjectWriter writer;
+    private final ThreadLocal<BoundedBuffer> buffers;
+    private final double sampleRate;
+
+    private final LongAdder truncated = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    public AuditBodyCapture(ObjectMapper objectMapper, int maxBytes, Set<String> redactedFields, double sampleRate) {
+        // 원본 ObjectMapper 설정은 건드리지 않도록 복사본에 마스킹 필터를 건다
+        ObjectMapper mapper = objectMapper.copy().addMixIn(Object.class, RedactionMixin.class);
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+                .addFilter(FILTER_ID, new RedactingFilter(Set.copyOf(redactedFields)));
+        this.writer = mapper.writer(filters).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.buffers = ThreadLocal.withInitial(() -> new BoundedBuffer(maxBytes));
+        this.sampleRate = sampleRate;
+    }
+
+    // 샘플링에서 제외되면 null 반환
+    public String capture(Object value) {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            skipped.increment();
+            return null;
+        }
+
+        BoundedBuffer buffer = buffers.get();
+        buffer.reset();
+        try {
+            writer.writeValue(buffer, value);
+            return buffer.asString();
+        } catch (Exception e) {
+            if (buffer.overflowed) {
+                truncated.increment();
+                return buffer.asString() + TRUNCATED_SUFFIX;
+            }
+            return FAILED_PREFIX + e.getClass().getSimpleName() + ">";
+        }
+    }
+
+    public long getTruncated() {
+        return truncated.sum();
+    }
+
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    @JsonFilter(FILTER_ID)
+    private abstract static class RedactionMixin {
+    }
+
+    // 민감 필드는 이름만 남기고 값을 가린다
+    private static class RedactingFilter extends SimpleBeanPropertyFilter {
+
+        private final Set<String> redactedFields;
+
+        private RedactingFilter(Set<String> redactedFields) {
+            this.redactedFields = redactedFields;
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider,
+                                     PropertyWriter writer) throws Exception {
+            if (redactedFields.contains(writer.getName())) {
+                gen.writeStringField(writer.getName(), REDACTED);
+                return;
+            }
+            writer.serializeAsField(pojo, gen, provider);
+        }
+    }
+
+    // 한도까지만 채우고 넘치면 예외로 직렬화를 끊는 재사용 버퍼
+    private static class BoundedBuffer extends OutputStream {
+
+        // 스택 트레이스 없이 미리 만들어 두고 재사용
+        private static final LimitReachedException LIMIT_REACHED = new LimitReachedException();
+
+        private final byte[] bytes;
+        private int size;
+        private boolean overflowed;
+
+        private BoundedBuffer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void reset() {
+            size = 0;
+            overflowed = false;
+        }
+
+        @Override
+        public void write(int b) {
+            if (size == bytes.length) {
+                overflowed = true;
+                throw LIMIT_REACHED;
+            }
+            bytes[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            int writable = Math.min(len, bytes.length - size);
+            System.arraycopy(b, off, bytes, size, writable);
+            size += writable;
+            if (writable < len) {
+                overflowed = true;
+                throw LIMIT_REACHED;
+            }
+        }
+
+        private String asString() {
+            int end = size;
+            if (overflowed) {
+                // 잘린 지점이 멀티바이트 문자 중간이면 그 문자의 시작 앞까지 되돌린다
+                int start = end;
+                while (start > 0 && (bytes[start - 1] & 0xC0) == 0x80) {
+                    start--;
+                }
+                if (start > 0 && (bytes[start - 1] & 0x80) != 0) {
+                    int lead = bytes[start - 1] & 0xFF;
+                    int expected = lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : 2;
+                    if (end - (start - 1) < expected) {
+                        end = start - 1;
+                    }
+                }
+            }
+            return new String(bytes, 0, end, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class LimitReachedException extends RuntimeException {
+
+        private LimitReachedException() {
+            super("audit body limit reached", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.aop.audit;
+
+// 버퍼가 가득 찼을 때의 처리 방식
+public enum AuditOverflowPolicy {
+    DROP,   // 새 이벤트를 버린다
+    BLOCK,  // block-timeout 동안 빈 자리를 기다린 뒤 버린다
+    SAMPLE  // 버퍼가 절반 이상 차면 sample-rate 비율만 남긴다
+}
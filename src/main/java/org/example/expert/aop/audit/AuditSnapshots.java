@@ -0,0 +1,79 @@
+package org.example.expert.aop.audit;
+
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+// 발행 이후 바뀔 수 없는 값인지 판별한다
+// 이런 값은 참조만 슬롯에 넘기고 직렬화는 소비자 스레드에서 해도 발행 시점의 본문과 같다
+// 컬렉션, 일반 클래스, 엔티티처럼 변경/지연 로딩될 수 있는 값은 false 로 보고 요청 스레드에서 직렬화한다
+final class AuditSnapshots {
+
+    private static final Set<Class<?>> IMMUTABLE_LEAF_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigDecimal.class, BigInteger.class, UUID.class,
+            Instant.class, Duration.class, LocalDate.class, LocalTime.class, LocalDateTime.class,
+            OffsetDateTime.class, ZonedDateTime.class
+    );
+
+    // 타입 판정은 클래스마다 한 번만 (레코드 구성 요소를 재귀로 확인)
+    private static final ClassValue<Boolean> IMMUTABLE_TYPES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isImmutableType(type, new HashSet<>());
+        }
+    };
+
+    private AuditSnapshots() {
+    }
+
+    static boolean isImmutable(Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (value instanceof ResponseEntity<?> entity) {
+            return isImmutable(entity.getBody()); // 헤더는 생성 시 읽기 전용으로 바뀐다
+        }
+        return IMMUTABLE_TYPES.get(value.getClass());
+    }
+
+    // 인자 배열 자체는 복사해서 넘기므로 원소만 확인
+    static boolean isImmutable(Object[] values) {
+        if (values == null) {
+            return true;
+        }
+        for (Object value : values) {
+            if (!isImmutable(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isImmutableType(Class<?> type, Set<Class<?>> visiting) {
+        if (type.isPrimitive() || type.isEnum() || IMMUTABLE_LEAF_TYPES.contains(type)) {
+            return true;
+        }
+        if (!type.isRecord() || !visiting.add(type)) {
+            return false;
+        }
+        for (RecordComponent component : type.getRecordComponents()) {
+            if (!isImmutableType(component.getType(), visiting)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
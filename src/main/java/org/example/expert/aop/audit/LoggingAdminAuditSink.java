@@ -0,0 +1,21 @@
+package org.example.expert.aop.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+@Slf4j
+@Component
+public class LoggingAdminAuditSink implements AdminAuditSink {
+
+    @Override
+    public void write(List<AdminAuditRecord> records) {
+        for (AdminAuditRecord record : records) {
+            log.info("[ADMIN API] userId={} method={} uri={} 요청시각={} 소요={}ms 예외={} 요청 본문: {} 응답 본문: {}",
+                    record.userId(), record.method(), record.uri(), Instant.ofEpochMilli(record.requestedAt()),
+                    record.durationMillis(), record.errorType(), record.requestBody(), record.responseBody());
+        }
+    }
+}
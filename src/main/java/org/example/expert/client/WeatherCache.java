@@ -0,0 +1,208 @@
+package org.example.expert.client;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 날씨 일별 스냅샷 캐시
+// 날씨 데이터는 날짜 단위로만 바뀌므로 한 번 받아 MM-dd 맵으로 들고 있고, 하루(또는 TTL)에 한 번만 갱신한다
+// 동시에 캐시가 비어도 실제 조회는 한 번만 나가고(single-flight), 갱신 중이거나 실패하면 이전 스냅샷을 그대로 쓴다
+@Slf4j
+@Component
+public class WeatherCache {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final WeatherClient weatherClient;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "weather-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+    private volatile Snapshot snapshot;
+    private volatile long lastFailureAt;
+
+    @Value("${weather.cache.ttl-ms:86400000}")
+    private long ttlMillis;
+
+    @Value("${weather.cache.serve-stale:true}")
+    private boolean serveStale;
+
+    @Value("${weather.cache.retry-backoff-ms:30000}")
+    private long retryBackoffMillis;
+
+    @Value("${weather.cache.load-timeout-ms:5000}")
+    private long loadTimeoutMillis;
+
+    @Value("${weather.lookup-timeout-ms:1000}")
+    private long lookupTimeoutMillis;
+
+    // 비워 두면 로컬 스냅샷 파일을 쓰지 않는다
+    @Value("${weather.cache.snapshot-path:./weather-snapshot.bin}")
+    private String snapshotPath;
+
+    private WeatherSnapshotFile snapshotFile;
+
+    public WeatherCache(WeatherClient weatherClient) {
+        this.weatherClient = weatherClient;
+    }
+
+    // 마지막으로 받은 스냅샷을 파일에서 복원해, 새로 뜬 노드도 네트워크 없이 바로 응답한다
+    // 복원한 스냅샷이 오래됐으면 warmUp 에서 백그라운드로 갱신된다
+    @PostConstruct
+    public void loadSnapshotFile() {
+        if (!StringUtils.hasText(snapshotPath)) {
+            return;
+        }
+        snapshotFile = new WeatherSnapshotFile(Path.of(snapshotPath));
+        snapshotFile.read().ifPresent(restored -> {
+            snapshot = restored;
+            log.info("날씨 스냅샷 파일 복원: date={}, entries={}", restored.loadedDate(), restored.weatherByDate().size());
+        });
+    }
+
+    // 첫 요청이 네트워크를 기다리지 않도록 기동 직후 미리 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshAsync();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    public String getTodayWeather() {
+        LocalDate today = LocalDate.now();
+        Snapshot current = snapshot;
+
+        if (current == null) {
+            current = awaitRefresh();
+        } else if (!current.isFresh(today, System.currentTimeMillis(), ttlMillis)) {
+            if (serveStale) {
+                // 오래된 스냅샷으로 바로 응답하고 갱신은 백그라운드에서
+                if (System.currentTimeMillis() - lastFailureAt >= retryBackoffMillis) {
+                    refreshAsync();
+                }
+            } else {
+                current = awaitRefresh();
+            }
+        }
+
+        String weather = current.weatherByDate().get(today.format(DATE_FORMAT));
+        if (weather == null) {
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    // 호출 스레드를 막지 않는 조회, 시간 안에 받지 못하거나 실패하면 null 로 완료된다
+    // 저장 경로가 임의의 대체값을 실제 날씨처럼 기록하지 않도록 '알 수 없음'은 null 로만 표현한다
+    // 스냅샷이 있으면 이미 완료된 future를 돌려준다
+    public CompletableFuture<String> getTodayWeatherAsync() {
+        LocalDate today = LocalDate.now();
+        Snapshot current = snapshot;
+
+        CompletableFuture<Snapshot> source;
+        if (current == null || (!serveStale && !current.isFresh(today, System.currentTimeMillis(), ttlMillis))) {
+            source = refreshAsync();
+        } else {
+            if (!current.isFresh(today, System.currentTimeMillis(), ttlMillis)
+                    && System.currentTimeMillis() - lastFailureAt >= retryBackoffMillis) {
+                refreshAsync();
+            }
+            source = CompletableFuture.completedFuture(current);
+        }
+
+        return source
+                .thenApply(loaded -> loaded.weatherByDate().get(today.format(DATE_FORMAT)))
+                .completeOnTimeout(null, lookupTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> null);
+    }
+
+    // 진행 중인 갱신이 있으면 그 결과를 함께 기다린다
+    CompletableFuture<Snapshot> refreshAsync() {
+        while (true) {
+            CompletableFuture<Snapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+
+            CompletableFuture<Snapshot> created = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, created)) {
+                continue;
+            }
+
+            refresher.execute(() -> {
+                try {
+                    Snapshot loaded = new Snapshot(Map.copyOf(weatherClient.fetchWeatherByDate()),
+                            LocalDate.now(), System.currentTimeMillis());
+                    snapshot = loaded;
+                    // 기다리던 호출자를 풀기 전에 파일까지 남겨 두어야 직후 재시작해도 스냅샷으로 뜬다
+                    persist(loaded);
+                    created.complete(loaded);
+                } catch (Throwable e) {
+                    lastFailureAt = System.currentTimeMillis();
+                    log.warn("날씨 데이터 갱신 실패: {}", e.getMessage());
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.compareAndSet(created, null);
+                }
+            });
+            return created;
+        }
+    }
+
+    private void persist(Snapshot loaded) {
+        if (snapshotFile == null) {
+            return;
+        }
+        try {
+            snapshotFile.write(loaded);
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷 파일 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot awaitRefresh() {
+        try {
+            return refreshAsync().get(loadTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("날씨 데이터를 가져오는 중 중단되었습니다.");
+        } catch (ExecutionException | TimeoutException e) {
+            if (e.getCause() instanceof ServerException serverException) {
+                throw serverException;
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+        }
+    }
+
+    record Snapshot(Map<String, String> weatherByDate, LocalDate loadedDate, long loadedAt) {
+
+        boolean isFresh(LocalDate today, long now, long ttlMillis) {
+            return loadedDate.equals(today) && now - loadedAt < ttlMillis;
+        }
+    }
+}
@@ -1,65 +1,85 @@
 package org.example.expert.client;
 
-import org.example.expert.client.dto.WeatherDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.transport.ResilientHttpTransport;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
 
 @Component
 public class WeatherClient {
 
-    private final RestTemplate restTemplate;
+    private final ResilientHttpTransport weatherTransport;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    public WeatherClient(ResilientHttpTransport weatherTransport, ObjectMapper objectMapper,
+                         @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl) {
+        this.weatherTransport = weatherTransport;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
     }
 
-    public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+    // 전체 날씨 배열을 한 번 내려받아 MM-dd -> 날씨 맵으로 인덱싱
+    // DTO 배열로 역직렬화하지 않고 토큰 스트림을 한 번 훑으며 바로 맵을 채운다
+    public Map<String, String> fetchWeatherByDate() {
+        byte[] body = weatherTransport.get(buildWeatherApiUri()); // 타임아웃, 서킷 차단, 200 이외 응답은 ServerException
 
-
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+        Map<String, String> weatherByDate;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            weatherByDate = parseWeatherByDate(parser);
+        } catch (IOException e) {
+            throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
         }
 
-
-        WeatherDto[] weatherArray = responseEntity.getBody();
-            if (weatherArray == null || weatherArray.length == 0) {
-                throw new ServerException("날씨 데이터가 없습니다.");
+        if (weatherByDate.isEmpty()) {
+            throw new ServerException("날씨 데이터가 없습니다.");
         }
+        return weatherByDate;
+    }
 
+    // [{"date":"MM-dd","weather":".."}, ...] 형태만 읽고 그 외 필드는 건너뛴다
+    static Map<String, String> parseWeatherByDate(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IOException("날씨 데이터는 배열이어야 합니다.");
+        }
 
-        String today = getCurrentDate();
-
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+        Map<String, String> weatherByDate = new HashMap<>(512);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String date = null;
+            String weather = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("date".equals(field) && value == JsonToken.VALUE_STRING) {
+                    date = parser.getText();
+                } else if ("weather".equals(field) && value == JsonToken.VALUE_STRING) {
+                    weather = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (date != null && weather != null) {
+                weatherByDate.putIfAbsent(date, weather);
             }
         }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return weatherByDate;
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
@@ -0,0 +1,33 @@
+package org.example.expert.client;
+
+import org.example.expert.client.transport.ResilientHttpTransport;
+import org.example.expert.client.transport.TransportSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class WeatherClientConfig {
+
+    @Bean
+    public ResilientHttpTransport weatherTransport(
+            @Value("${weather.http.connect-timeout-ms:1000}") long connectTimeoutMillis,
+            @Value("${weather.http.request-timeout-ms:2000}") long requestTimeoutMillis,
+            @Value("${weather.http.max-concurrent:8}") int maxConcurrent,
+            @Value("${weather.http.bulkhead-wait-ms:50}") long bulkheadWaitMillis,
+            @Value("${weather.http.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.http.circuit.open-ms:10000}") long openMillis,
+            @Value("${weather.http.hedge-delay-ms:0}") long hedgeDelayMillis) {
+        return new ResilientHttpTransport("weather", new TransportSettings(
+                Duration.ofMillis(connectTimeoutMillis),
+                Duration.ofMillis(requestTimeoutMillis),
+                maxConcurrent,
+                Duration.ofMillis(bulkheadWaitMillis),
+                failureThreshold,
+                Duration.ofMillis(openMillis),
+                Duration.ofMillis(hedgeDelayMillis)
+        ));
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherCache.Snapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+// 날씨 스냅샷을 로컬 파일로 보관해 재시작 직후에도 네트워크 없이 응답할 수 있게 한다
+// 형식: [int magic][int version][long loadedDate(epochDay)][long loadedAt][int count][(utf date, utf weather) * count][long crc32]
+// 체크섬이 맞지 않거나 형식이 다르면 파일을 무시한다
+@Slf4j
+class WeatherSnapshotFile {
+
+    private static final int MAGIC = 0x57545348; // "WTSH"
+    private static final int VERSION = 1;
+
+    private final Path path;
+
+    WeatherSnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    Optional<Snapshot> read() {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷 파일 읽기 실패: path={}", path, e);
+            return Optional.empty();
+        }
+
+        if (bytes.length < Long.BYTES || crc(bytes, bytes.length - Long.BYTES) != readLong(bytes, bytes.length - Long.BYTES)) {
+            log.warn("날씨 스냅샷 파일 체크섬 불일치, 무시합니다: path={}", path);
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - Long.BYTES))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return Optional.empty();
+            }
+            LocalDate loadedDate = LocalDate.ofEpochDay(in.readLong());
+            long loadedAt = in.readLong();
+            int count = in.readInt();
+            Map<String, String> weatherByDate = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                weatherByDate.put(in.readUTF(), in.readUTF());
+            }
+            return Optional.of(new Snapshot(Map.copyOf(weatherByDate), loadedDate, loadedAt));
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷 파일 형식 오류, 무시합니다: path={}", path);
+            return Optional.empty();
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 교체해서 쓰다 만 파일이 남지 않게 한다
+    void write(Snapshot snapshot) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 * 1024);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshot.loadedDate().toEpochDay());
+            out.writeLong(snapshot.loadedAt());
+            out.writeInt(snapshot.weatherByDate().size());
+            for (Map.Entry<String, String> entry : snapshot.weatherByDate().entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue());
+            }
+            byte[] body = buffer.toByteArray();
+            out.writeLong(crc(body, body.length));
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temp, buffer.toByteArray());
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long crc(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return crc.getValue();
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
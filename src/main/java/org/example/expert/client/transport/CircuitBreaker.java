@@ -0,0 +1,129 @@
+package org.example.expert.client.transport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.util.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 연속 실패 횟수 기반 서킷 브레이커
+// CLOSED: 연속 실패가 임계치에 닿으면 OPEN
+// OPEN: openDuration 동안 모든 호출을 거절하고, 지나면 HALF_OPEN 으로 바꿔 probe 한 건만 통과시킨다
+// HALF_OPEN: probe 가 성공하면 CLOSED, 실패하면 다시 OPEN
+@Slf4j
+public class CircuitBreaker {
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final Map<CircuitState, StateMetrics> metrics = new EnumMap<>(CircuitState.class);
+
+    private CircuitState state = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openMillis * 1_000_000;
+        for (CircuitState circuitState : CircuitState.values()) {
+            metrics.put(circuitState, new StateMetrics());
+        }
+    }
+
+    // 호출 허가, 거절되면 null
+    public synchronized CircuitState tryAcquire() {
+        if (state == CircuitState.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            transitionTo(CircuitState.HALF_OPEN);
+        }
+
+        if (state == CircuitState.CLOSED) {
+            return CircuitState.CLOSED;
+        }
+        if (state == CircuitState.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return CircuitState.HALF_OPEN;
+        }
+
+        metrics.get(state).rejected.increment();
+        return null;
+    }
+
+    // 허가를 받았지만 호출하지 못한 경우 (벌크헤드 초과 등) probe 자리를 되돌린다
+    public synchronized void release(CircuitState permit) {
+        if (permit == CircuitState.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public void onSuccess(CircuitState permit, long elapsedNanos) {
+        metrics.get(permit).record(elapsedNanos, false);
+        synchronized (this) {
+            consecutiveFailures = 0;
+            if (permit == CircuitState.HALF_OPEN) {
+                probeInFlight = false;
+                transitionTo(CircuitState.CLOSED);
+            }
+        }
+    }
+
+    public void onFailure(CircuitState permit, long elapsedNanos) {
+        metrics.get(permit).record(elapsedNanos, true);
+        synchronized (this) {
+            if (permit == CircuitState.HALF_OPEN) {
+                probeInFlight = false;
+                open();
+                return;
+            }
+            if (state == CircuitState.CLOSED && ++consecutiveFailures >= failureThreshold) {
+                open();
+            }
+        }
+    }
+
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    public Map<CircuitState, CircuitStateStats> stats() {
+        Map<CircuitState, CircuitStateStats> stats = new EnumMap<>(CircuitState.class);
+        metrics.forEach((circuitState, m) -> stats.put(circuitState, m.snapshot()));
+        return stats;
+    }
+
+    private void open() {
+        openedAt = System.nanoTime();
+        consecutiveFailures = 0;
+        transitionTo(CircuitState.OPEN);
+    }
+
+    private void transitionTo(CircuitState next) {
+        if (state != next) {
+            log.info("서킷 상태 변경: name={}, {} -> {}", name, state, next);
+            state = next;
+        }
+    }
+
+    private static class StateMetrics {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private void record(long elapsedNanos, boolean failed) {
+            calls.increment();
+            if (failed) {
+                failures.increment();
+            }
+            latency.record(elapsedNanos);
+        }
+
+        private CircuitStateStats snapshot() {
+            return new CircuitStateStats(calls.sum(), failures.sum(), rejected.sum(), latency.snapshot());
+        }
+    }
+}
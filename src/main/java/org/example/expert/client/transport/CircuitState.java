@@ -0,0 +1,7 @@
+package org.example.expert.client.transport;
+
+public enum CircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
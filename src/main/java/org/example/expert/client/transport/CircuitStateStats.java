@@ -0,0 +1,12 @@
+package org.example.expert.client.transport;
+
+import org.example.expert.domain.common.util.LatencyHistogram;
+
+// 호출 허가를 받은 시점의 서킷 상태별로 집계한 지표
+public record CircuitStateStats(
+        long calls,
+        long failures,
+        long rejected,
+        LatencyHistogram.Snapshot latency
+) {
+}
@@ -0,0 +1,163 @@
+package org.example.expert.client.transport;
+
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 외부 API 호출용 전송 계층
+// keep-alive 커넥션을 재사용하는 JDK HttpClient 위에 타임아웃, 동시 호출 상한(벌크헤드), 서킷 브레이커, 선택적 헤징을 얹는다
+public class ResilientHttpTransport {
+
+    private final String name;
+    private final TransportSettings settings;
+    private final HttpClient httpClient;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    private final LongAdder bulkheadRejected = new LongAdder();
+    private final LongAdder hedgedRequests = new LongAdder();
+
+    public ResilientHttpTransport(String name, TransportSettings settings) {
+        this.name = name;
+        this.settings = settings;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.bulkhead = new Semaphore(settings.maxConcurrentRequests());
+        this.circuitBreaker = new CircuitBreaker(name, settings.failureThreshold(), settings.openDuration().toMillis());
+    }
+
+    public byte[] get(URI uri) {
+        CircuitState permit = circuitBreaker.tryAcquire();
+        if (permit == null) {
+            throw new ServerException(name + " 호출이 일시적으로 차단되었습니다.");
+        }
+
+        if (!acquireBulkhead()) {
+            circuitBreaker.release(permit);
+            bulkheadRejected.increment();
+            throw new ServerException(name + " 동시 호출 한도를 초과했습니다.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            byte[] body = send(HttpRequest.newBuilder(uri)
+                    .timeout(settings.requestTimeout())
+                    .GET()
+                    .build());
+            circuitBreaker.onSuccess(permit, System.nanoTime() - start);
+            return body;
+        } catch (Exception e) {
+            circuitBreaker.onFailure(permit, System.nanoTime() - start);
+            if (e instanceof ServerException serverException) {
+                throw serverException;
+            }
+            throw new ServerException(name + " 호출에 실패했습니다: " + e.getClass().getSimpleName());
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public TransportStats stats() {
+        return new TransportStats(
+                name,
+                circuitBreaker.getState(),
+                bulkhead.availablePermits(),
+                bulkheadRejected.sum(),
+                hedgedRequests.sum(),
+                circuitBreaker.stats()
+        );
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(settings.bulkheadWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private byte[] send(HttpRequest request) throws Exception {
+        CompletableFuture<byte[]> primary = sendAsync(request);
+        if (!settings.hedgingEnabled()) {
+            return await(primary, settings.requestTimeout().toMillis());
+        }
+
+        long deadline = System.nanoTime() + settings.requestTimeout().toNanos();
+        try {
+            return primary.get(settings.hedgeDelay().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 첫 요청이 늦으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 쓴다
+            hedgedRequests.increment();
+            CompletableFuture<byte[]> hedge = sendAsync(request);
+            CompletableFuture<byte[]> first = firstSuccessful(primary, hedge);
+            try {
+                return await(first, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+            } finally {
+                primary.cancel(true);
+                hedge.cancel(true);
+            }
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private CompletableFuture<byte[]> sendAsync(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new ServerException(name + " 응답 상태 코드: " + response.statusCode());
+                    }
+                    return response.body();
+                });
+    }
+
+    private static CompletableFuture<byte[]> firstSuccessful(CompletableFuture<byte[]> a, CompletableFuture<byte[]> b) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<byte[]> candidate : List.of(a, b)) {
+            candidate.whenComplete((body, error) -> {
+                if (error == null) {
+                    result.complete(body);
+                } else if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(error);
+                }
+            });
+        }
+        return result;
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> future, long timeoutMillis) throws Exception {
+        try {
+            return future.get(Math.max(0, timeoutMillis), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    private static Exception unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof Exception exception ? exception : e;
+    }
+}
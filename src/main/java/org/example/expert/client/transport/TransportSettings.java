@@ -0,0 +1,19 @@
+package org.example.expert.client.transport;
+
+import java.time.Duration;
+
+// hedgeDelay 가 0 이면 헤징을 하지 않는다
+public record TransportSettings(
+        Duration connectTimeout,
+        Duration requestTimeout,
+        int maxConcurrentRequests,
+        Duration bulkheadWait,
+        int failureThreshold,
+        Duration openDuration,
+        Duration hedgeDelay
+) {
+
+    public boolean hedgingEnabled() {
+        return !hedgeDelay.isZero() && !hedgeDelay.isNegative();
+    }
+}
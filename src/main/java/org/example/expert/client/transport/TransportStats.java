@@ -0,0 +1,13 @@
+package org.example.expert.client.transport;
+
+import java.util.Map;
+
+public record TransportStats(
+        String name,
+        CircuitState state,
+        int availablePermits,
+        long bulkheadRejected,
+        long hedgedRequests,
+        Map<CircuitState, CircuitStateStats> byState
+) {
+}
@@ -0,0 +1,102 @@
+package org.example.expert.config;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 에러 응답 공통 렌더러
+// {"status":..,"code":..,"message":".."} 형태에서 상태별 앞/뒤 부분은 미리 인코딩해 두고 메시지만 이스케이프해서 쓴다
+@Component
+public class ErrorResponseWriter {
+
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ConcurrentHashMap<HttpStatus, byte[]> prefixes = new ConcurrentHashMap<>();
+
+    // 메시지가 고정된 응답은 본문 전체를 한 번만 인코딩해 재사용
+    public ErrorTemplate template(HttpStatus status, String message) {
+        byte[] prefix = prefix(status);
+        byte[] escaped = escape(message).getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[prefix.length + escaped.length + SUFFIX.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(escaped, 0, body, prefix.length, escaped.length);
+        System.arraycopy(SUFFIX, 0, body, prefix.length + escaped.length, SUFFIX.length);
+        return new ErrorTemplate(status, body);
+    }
+
+    public void write(HttpServletResponse response, ErrorTemplate template) throws IOException {
+        prepare(response, template.status(), template.body().length);
+        response.getOutputStream().write(template.body());
+    }
+
+    public void write(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        byte[] prefix = prefix(status);
+        byte[] escaped = escape(message).getBytes(StandardCharsets.UTF_8);
+        prepare(response, status, prefix.length + escaped.length + SUFFIX.length);
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(prefix);
+        out.write(escaped);
+        out.write(SUFFIX);
+    }
+
+    private void prepare(HttpServletResponse response, HttpStatus status, int contentLength) {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(contentLength);
+    }
+
+    private byte[] prefix(HttpStatus status) {
+        return prefixes.computeIfAbsent(status, s ->
+                ("{\"status\":\"" + s.name() + "\",\"code\":" + s.value() + ",\"message\":\"")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 이스케이프할 문자가 없으면 원본 문자열을 그대로 돌려준다
+    static String escape(String message) {
+        if (message == null) {
+            return "";
+        }
+        int i = 0;
+        while (i < message.length() && !needsEscape(message.charAt(i))) {
+            i++;
+        }
+        if (i == message.length()) {
+            return message;
+        }
+
+        StringBuilder sb = new StringBuilder(message.length() + 16).append(message, 0, i);
+        for (; i < message.length(); i++) {
+            char c = message.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean needsEscape(char c) {
+        return c < 0x20 || c == '"' || c == '\\';
+    }
+
+    public record ErrorTemplate(HttpStatus status, byte[] body) {
+    }
+}
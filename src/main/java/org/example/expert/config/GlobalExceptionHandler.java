@@ -1,56 +1,49 @@
 package org.example.expert.config;
 
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.InvalidTokenException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
 
+// 에러 본문은 Map/ObjectMapper를 거치지 않고 ErrorResponseWriter가 응답 스트림에 바로 쓴다
+// 응답에는 메시지만 쓰고 스택 트레이스는 쓰지 않으므로, 인증 실패처럼 자주 던지는 예외는
+// captureStackTrace=false 생성자로 만들어 스택 수집 비용을 생략한다
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
     @ExceptionHandler(InvalidRequestException.class)
-    public ResponseEntity<Map<String, Object>> invalidRequestExceptionException(InvalidRequestException ex) {
-        HttpStatus status = HttpStatus.BAD_REQUEST;
-        return getErrorResponse(status, ex.getMessage());
+    public void invalidRequestExceptionException(InvalidRequestException ex, HttpServletResponse response) throws IOException {
+        errorResponseWriter.write(response, HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
     @ExceptionHandler(AuthException.class)
-    public ResponseEntity<Map<String, Object>> handleAuthException(AuthException ex) {
-        HttpStatus status = HttpStatus.UNAUTHORIZED;
-        return getErrorResponse(status, ex.getMessage());
+    public void handleAuthException(AuthException ex, HttpServletResponse response) throws IOException {
+        errorResponseWriter.write(response, HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
 
     @ExceptionHandler(ServerException.class)
-    public ResponseEntity<Map<String, Object>> handleServerException(ServerException ex) {
-        HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
-        return getErrorResponse(status, ex.getMessage());
+    public void handleServerException(ServerException ex, HttpServletResponse response) throws IOException {
+        errorResponseWriter.write(response, HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
     }
 
-    public ResponseEntity<Map<String, Object>> getErrorResponse(HttpStatus status, String message) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("status", status.name());
-        errorResponse.put("code", status.value());
-        errorResponse.put("message", message);
-
-        return new ResponseEntity<>(errorResponse, status);
+    @ExceptionHandler(TooManyRequestsException.class)
+    public void handleTooManyRequestsException(TooManyRequestsException ex, HttpServletResponse response) throws IOException {
+        errorResponseWriter.write(response, HttpStatus.TOO_MANY_REQUESTS, ex.getMessage());
     }
 
-
     @ExceptionHandler(InvalidTokenException.class)
-    public ResponseEntity<?> handleInvalidToken(InvalidTokenException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("status", "UNAUTHORIZED");
-        body.put("code", 401);
-        body.put("message", ex.getMessage());
-
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(body);
+    public void handleInvalidToken(InvalidTokenException ex, HttpServletResponse response) throws IOException {
+        errorResponseWriter.write(response, HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
 }
-
@@ -1,17 +1,211 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.common.util.LatencyHistogram;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// BCrypt 해싱은 CPU 를 오래 쓰므로 요청 스레드가 아닌 전용 풀(코어 수 만큼)에서 실행한다
+// 대기열이 가득 차면 즉시 429 로 거절해 다른 API 가 굶지 않도록 한다
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    private static final int CALIBRATION_SAMPLES = 5;
+
+    @Value("${password.bcrypt.cost:4}")
+    private volatile int cost = BCrypt.MIN_COST;
+
+    // 기동 시 이 서버에서 지연 예산 안에 들어오는 최대 cost 를 측정해 사용
+    @Value("${password.bcrypt.calibrate:false}")
+    private boolean calibrate = false;
+
+    @Value("${password.bcrypt.latency-budget-ms:50}")
+    private long latencyBudgetMillis = 50;
+
+    @Value("${password.bcrypt.max-cost:14}")
+    private int maxCost = 14;
+
+    @Value("${password.hashing.pool-size:0}")
+    private int poolSize = 0; // 0 이면 CPU 코어 수
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int queueCapacity = 64;
+
+    private volatile ThreadPoolExecutor executor;
+
+    private final Metrics encodeMetrics = new Metrics();
+    private final Metrics matchesMetrics = new Metrics();
+
+    @PostConstruct
+    public void calibrate() {
+        if (!calibrate) {
+            return;
+        }
+        char[] sample = "calibration-password".toCharArray();
+        BCrypt.withDefaults().hash(BCrypt.MIN_COST, sample); // warm-up
+
+        // 설정된 cost 는 하한으로 본다: 느린 서버라도 보정이 해시 강도를 낮추지 않는다
+        int configuredCost = cost;
+        int chosen = configuredCost;
+        long configuredMillis = worstMillis(configuredCost, sample);
+        if (configuredMillis > latencyBudgetMillis) {
+            log.warn("설정된 BCrypt cost 가 지연 예산을 넘음: cost={} worst={}ms budget={}ms",
+                    configuredCost, configuredMillis, latencyBudgetMillis);
+        } else {
+            for (int candidate = configuredCost + 1; candidate <= maxCost; candidate++) {
+                if (worstMillis(candidate, sample) > latencyBudgetMillis) {
+                    break;
+                }
+                chosen = candidate;
+            }
+        }
+        cost = Math.max(configuredCost, chosen);
+        log.info("BCrypt cost 보정 완료: cost={} configured={} budget={}ms", cost, configuredCost, latencyBudgetMillis);
+    }
+
+    private long worstMillis(int candidate, char[] sample) {
+        long worstMillis = 0;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hash(candidate, sample);
+            worstMillis = Math.max(worstMillis, (System.nanoTime() - start) / 1_000_000);
+        }
+        return worstMillis;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    // 저장된 해시($2a$10$...)에서 cost 추출, 형식이 다르면 -1
+    public int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // 더 낮은 cost 로만 다시 해싱한다, 노드마다 보정된 cost 가 달라도 해시가 오르내리지 않도록
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) < cost;
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return await(encodeAsync(rawPassword));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return await(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        int currentCost = cost;
+        return submit(encodeMetrics, () -> BCrypt.withDefaults().hashToString(currentCost, rawPassword.toCharArray()));
+    }
+
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submit(matchesMetrics, () -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public Map<String, Map<String, LatencyHistogram.Snapshot>> stats() {
+        Map<String, Map<String, LatencyHistogram.Snapshot>> stats = new LinkedHashMap<>();
+        stats.put("encode", encodeMetrics.snapshot());
+        stats.put("matches", matchesMetrics.snapshot());
+        return stats;
+    }
+
+    private <T> CompletableFuture<T> submit(Metrics metrics, Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                metrics.queue.record(startedAt - enqueuedAt);
+                try {
+                    return task.get();
+                } finally {
+                    metrics.compute.record(System.nanoTime() - startedAt);
+                }
+            }, executor());
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private ThreadPoolExecutor executor() {
+        ThreadPoolExecutor current = executor;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (executor == null) {
+                int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+                AtomicInteger sequence = new AtomicInteger();
+                executor = new ThreadPoolExecutor(
+                        threads, threads,
+                        0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.AbortPolicy()
+                );
+            }
+            return executor;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private static class Metrics {
+        private final LatencyHistogram queue = new LatencyHistogram();
+        private final LatencyHistogram compute = new LatencyHistogram();
+
+        private Map<String, LatencyHistogram.Snapshot> snapshot() {
+            Map<String, LatencyHistogram.Snapshot> snapshot = new LinkedHashMap<>();
+            snapshot.put("queue", queue.snapshot());
+            snapshot.put("compute", compute.snapshot());
+            return snapshot;
+        }
     }
 }
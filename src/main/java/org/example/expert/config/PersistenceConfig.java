@@ -1,9 +1,57 @@
 package org.example.expert.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.id.TimeOrderedIdGenerator;
+import org.example.expert.domain.common.id.TsidGenerator;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.util.StringUtils;
 
+import java.security.SecureRandom;
+
+@Slf4j
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // ID 를 애플리케이션에서 발급하므로 같은 테이블 insert/update 를 JDBC 배치로 묶는다
+    @Bean
+    public HibernatePropertiesCustomizer batchingPropertiesCustomizer(
+            @Value("${hibernate.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    // TSID 노드 ID 는 인스턴스마다 달라야 한다 (같으면 같은 밀리초에 같은 ID 가 나올 수 있음)
+    // 설정(id.node-id, 환경 변수 ID_NODE_ID)이 없으면 임의 노드로 경고 후 진행하고, id.require-node-id=true (prod 프로필) 면 기동을 막는다
+    @Bean
+    public TsidGenerator tsidGenerator(
+            @Value("${id.node-id:}") String nodeId,
+            @Value("${id.require-node-id:false}") boolean requireNodeId) {
+        if (StringUtils.hasText(nodeId)) {
+            return new TsidGenerator(Long.parseLong(nodeId.trim()));
+        }
+        if (requireNodeId) {
+            throw new IllegalStateException("id.node-id(환경 변수 ID_NODE_ID)가 설정되지 않았습니다. "
+                    + "인스턴스마다 0 ~ " + TsidGenerator.MAX_NODE + " 사이의 서로 다른 값을 지정하세요.");
+        }
+        TsidGenerator generator = new TsidGenerator(new SecureRandom().nextInt((int) TsidGenerator.MAX_NODE + 1));
+        log.warn("id.node-id 가 설정되지 않아 임의의 TSID 노드를 사용합니다. 여러 인스턴스를 띄우면 ID 가 충돌할 수 있습니다: node={}",
+                generator.node());
+        return generator;
+    }
+
+    // Hibernate 가 직접 생성하는 TimeOrderedIdGenerator 에 설정 맵으로 생성기 빈을 넘긴다
+    @Bean
+    public HibernatePropertiesCustomizer tsidGeneratorCustomizer(TsidGenerator tsidGenerator) {
+        return properties -> properties.put(TimeOrderedIdGenerator.GENERATOR_SETTING, tsidGenerator);
+    }
 }
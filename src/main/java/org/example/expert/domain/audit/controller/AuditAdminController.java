@@ -0,0 +1,38 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.aop.audit.AdminAuditPipeline;
+import org.example.expert.aop.audit.AdminAuditPipelineStats;
+import org.example.expert.domain.audit.dto.response.AuditLogPageResponse;
+import org.example.expert.domain.audit.service.AuditLogService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+public class AuditAdminController {
+
+    private final AdminAuditPipeline adminAuditPipeline;
+    private final AuditLogService auditLogService;
+
+    @GetMapping("/admin/audit/pipeline")
+    public ResponseEntity<AdminAuditPipelineStats> getPipelineStats() {
+        return ResponseEntity.ok(adminAuditPipeline.stats());
+    }
+
+    @GetMapping("/admin/audit-logs")
+    public ResponseEntity<AuditLogPageResponse> getAuditLogs(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(auditLogService.getAuditLogs(userId, from, to, cursor, size));
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class AuditLogPageResponse {
+
+    private final List<AuditLogResponse> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public AuditLogPageResponse(List<AuditLogResponse> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class AuditLogResponse {
+
+    private final Long userId;
+    private final String method;
+    private final String uri;
+    private final Instant requestedAt;
+    private final long durationMillis;
+    private final String requestBody;
+    private final String responseBody;
+    private final String errorType;
+
+    public AuditLogResponse(Long userId, String method, String uri, Instant requestedAt, long durationMillis,
+                            String requestBody, String responseBody, String errorType) {
+        this.userId = userId;
+        this.method = method;
+        this.uri = uri;
+        this.requestedAt = requestedAt;
+        this.durationMillis = durationMillis;
+        this.requestBody = requestBody;
+        this.responseBody = responseBody;
+        this.errorType = errorType;
+    }
+}
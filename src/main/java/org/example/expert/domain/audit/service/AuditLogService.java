@@ -0,0 +1,51 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AuditLogPageResponse;
+import org.example.expert.domain.audit.dto.response.AuditLogResponse;
+import org.example.expert.domain.audit.store.AuditLogSlice;
+import org.example.expert.domain.audit.store.AuditSegmentStore;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AuditLogService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final AuditSegmentStore auditSegmentStore;
+
+    public AuditLogPageResponse getAuditLogs(Long userId, LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(1);
+
+        AuditLogSlice slice = auditSegmentStore.query(userId, toEpochMillis(start), toEpochMillis(end), cursor, size);
+
+        List<AuditLogResponse> content = slice.entries().stream()
+                .map(entry -> new AuditLogResponse(
+                        entry.userId(),
+                        entry.method(),
+                        entry.uri(),
+                        Instant.ofEpochMilli(entry.requestedAt()),
+                        entry.durationMillis(),
+                        entry.requestBody(),
+                        entry.responseBody(),
+                        entry.errorType()
+                ))
+                .toList();
+        return new AuditLogPageResponse(content, slice.nextCursor());
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
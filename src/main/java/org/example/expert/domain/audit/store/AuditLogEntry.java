@@ -0,0 +1,16 @@
+package org.example.expert.domain.audit.store;
+
+public record AuditLogEntry(
+        long segmentId,
+        int offset,
+        long loggedAt,
+        long requestedAt,
+        Long userId,
+        long durationMillis,
+        String method,
+        String uri,
+        String requestBody,
+        String responseBody,
+        String errorType
+) {
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.audit.store;
+
+import java.util.List;
+
+// nextCursor 는 "세그먼트ID:오프셋", 다음 페이지가 없으면 null
+public record AuditLogSlice(List<AuditLogEntry> entries, String nextCursor) {
+}
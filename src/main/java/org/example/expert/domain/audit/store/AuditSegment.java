@@ -0,0 +1,287 @@
+package org.example.expert.domain.audit.store;
+
+import org.example.expert.aop.audit.AdminAuditRecord;
+import org.example.expert.domain.common.util.BloomFilter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+// 메모리 맵 파일 하나에 감사 로그를 이어 쓰는 세그먼트
+//
+// 레코드 형식 (big-endian)
+//   int  length            이후 바이트 수, 0 이면 데이터 끝
+//   long loggedAt          기록 시각 (세그먼트 안에서 단조 증가)
+//   long requestedAt
+//   long userId            없으면 -1
+//   long durationMillis
+//   short+bytes method, short+bytes uri, int+bytes requestBody, int+bytes responseBody, short+bytes errorType
+//
+// 인덱스: SPARSE_INTERVAL 건마다 (loggedAt, offset), 세그먼트 단위 userId Bloom filter
+class AuditSegment {
+
+    static final String FILE_SUFFIX = ".seg";
+    private static final int SPARSE_INTERVAL = 64;
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES * 4;
+    private static final long NO_USER = -1L;
+
+    private final long id;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final BloomFilter userIds;
+
+    private volatile int writePosition;
+    private volatile long minLoggedAt = Long.MAX_VALUE;
+    private volatile long maxLoggedAt = Long.MIN_VALUE;
+    private long recordCount;
+
+    // 읽기 스레드는 count 를 먼저 읽고 배열을 읽는다 (쓰기는 배열 -> count 순)
+    private volatile long[] sparseTimestamps = new long[256];
+    private volatile int[] sparseOffsets = new int[256];
+    private volatile int sparseCount;
+
+    private AuditSegment(long id, Path path, MappedByteBuffer buffer, long expectedRecords) {
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+        this.userIds = new BloomFilter(expectedRecords, 0.01);
+    }
+
+    static AuditSegment create(Path directory, long id, int capacity, long expectedRecords) throws IOException {
+        Path path = directory.resolve(String.format("%019d%s", id, FILE_SUFFIX));
+        return new AuditSegment(id, path, map(path, capacity), expectedRecords);
+    }
+
+    // 기존 파일을 다시 매핑하고 레코드를 훑어 인덱스와 쓰기 위치를 복구
+    static AuditSegment open(Path path, int capacity, long expectedRecords) throws IOException {
+        String fileName = path.getFileName().toString();
+        long id = Long.parseLong(fileName.substring(0, fileName.length() - FILE_SUFFIX.length()));
+        int size = (int) Math.max(capacity, Files.size(path));
+        AuditSegment segment = new AuditSegment(id, path, map(path, size), expectedRecords);
+        segment.recover();
+        return segment;
+    }
+
+    private static MappedByteBuffer map(Path path, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+    }
+
+    private void recover() {
+        int position = 0;
+        while (position + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + Integer.BYTES + length > buffer.capacity()) {
+                break;
+            }
+            indexRecord(position, buffer.getLong(position + 4), buffer.getLong(position + 20));
+            position += Integer.BYTES + length;
+        }
+        writePosition = position;
+    }
+
+    // 단일 쓰기 스레드 전용, 공간이 부족하면 false
+    boolean append(AdminAuditRecord record, long loggedAt, int maxBodyBytes) {
+        byte[] method = bytes(record.method(), Short.MAX_VALUE);
+        byte[] uri = bytes(record.uri(), Short.MAX_VALUE);
+        byte[] request = bytes(record.requestBody(), maxBodyBytes);
+        byte[] response = bytes(record.responseBody(), maxBodyBytes);
+        byte[] error = bytes(record.errorType(), Short.MAX_VALUE);
+
+        int length = Long.BYTES * 4
+                + Short.BYTES + method.length
+                + Short.BYTES + uri.length
+                + Integer.BYTES + request.length
+                + Integer.BYTES + response.length
+                + Short.BYTES + error.length;
+        int position = writePosition;
+        // 뒤에 종료 표시(0)를 쓸 공간까지 확보
+        if (position + Integer.BYTES + length + Integer.BYTES > buffer.capacity()) {
+            return false;
+        }
+
+        long userId = record.userId() == null ? NO_USER : record.userId();
+        ByteBuffer out = buffer.duplicate();
+        out.position(position + Integer.BYTES);
+        out.putLong(loggedAt);
+        out.putLong(record.requestedAt());
+        out.putLong(userId);
+        out.putLong(record.durationMillis());
+        out.putShort((short) method.length).put(method);
+        out.putShort((short) uri.length).put(uri);
+        out.putInt(request.length).put(request);
+        out.putInt(response.length).put(response);
+        out.putShort((short) error.length).put(error);
+        out.putInt(0);
+        // 길이는 마지막에 기록해 읽는 쪽이 미완성 레코드를 보지 않도록 한다
+        buffer.putInt(position, length);
+
+        indexRecord(position, loggedAt, userId);
+        writePosition = position + Integer.BYTES + length;
+        return true;
+    }
+
+    private void indexRecord(int position, long loggedAt, long userId) {
+        if (recordCount % SPARSE_INTERVAL == 0) {
+            int count = sparseCount;
+            if (count == sparseOffsets.length) {
+                sparseTimestamps = Arrays.copyOf(sparseTimestamps, count * 2);
+                sparseOffsets = Arrays.copyOf(sparseOffsets, count * 2);
+            }
+            sparseTimestamps[count] = loggedAt;
+            sparseOffsets[count] = position;
+            sparseCount = count + 1;
+        }
+        recordCount++;
+        userIds.put(userKey(userId));
+        if (minLoggedAt == Long.MAX_VALUE) {
+            minLoggedAt = loggedAt;
+        }
+        maxLoggedAt = loggedAt;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    // 세그먼트 건너뛰기 판단
+    boolean mayContain(Long userId, long from, long to) {
+        if (writePosition == 0 || maxLoggedAt < from || minLoggedAt > to) {
+            return false;
+        }
+        return userId == null || userIds.mightContain(userKey(userId));
+    }
+
+    // loggedAt >= from 인 첫 레코드가 있을 수 있는 위치
+    int seek(long from) {
+        int count = sparseCount;
+        long[] timestamps = sparseTimestamps;
+        int[] offsets = sparseOffsets;
+        int low = 0;
+        int high = count - 1;
+        int start = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] < from) {
+                start = offsets[mid];
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return start;
+    }
+
+    // 커서로 받은 위치가 실제 레코드 시작점인지 확인
+    // 앞쪽 가장 가까운 희소 인덱스 위치에서 레코드 길이를 따라 최대 SPARSE_INTERVAL 건만 건너가 본다
+    boolean isRecordBoundary(int position) {
+        int end = writePosition;
+        if (position < 0 || position >= end) {
+            return false;
+        }
+        int count = sparseCount;
+        int[] offsets = sparseOffsets;
+        int low = 0;
+        int high = count - 1;
+        int current = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (offsets[mid] <= position) {
+                current = offsets[mid];
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        while (current < position) {
+            int length = buffer.getInt(current);
+            if (length <= 0 || current + Integer.BYTES + length > end) {
+                return false;
+            }
+            current += Integer.BYTES + length;
+        }
+        return current == position;
+    }
+
+    // position 부터 읽어 조건에 맞는 레코드를 visitor 에 넘긴다
+    // 본문 문자열은 조건에 맞는 레코드만 디코딩하고, 나머지는 매핑된 버퍼에서 헤더만 읽는다
+    // visitor 가 false 를 반환하면 (페이지가 가득 참) 그 레코드 위치를, 끝까지 읽었으면 -1 을 반환
+    int scan(int position, Long userId, long from, long to, Predicate<AuditLogEntry> visitor) {
+        int end = writePosition;
+        while (position + HEADER_BYTES <= end) {
+            int length = buffer.getInt(position);
+            // recover 와 같은 경계 검사, 손상된 길이로 제자리를 돌거나 버퍼 밖을 읽지 않는다
+            if (length <= 0 || position + Integer.BYTES + length > end) {
+                return -1;
+            }
+            long loggedAt = buffer.getLong(position + 4);
+            if (loggedAt > to) {
+                return -1;
+            }
+            long recordUserId = buffer.getLong(position + 20);
+            int next = position + Integer.BYTES + length;
+            if (loggedAt >= from && (userId == null || userId == recordUserId)) {
+                if (!visitor.test(decode(position))) {
+                    return position;
+                }
+            }
+            position = next;
+        }
+        return -1;
+    }
+
+    private AuditLogEntry decode(int position) {
+        ByteBuffer in = buffer.duplicate();
+        in.position(position + Integer.BYTES);
+        long loggedAt = in.getLong();
+        long requestedAt = in.getLong();
+        long userId = in.getLong();
+        long durationMillis = in.getLong();
+        String method = readString(in, in.getShort());
+        String uri = readString(in, in.getShort());
+        String requestBody = readString(in, in.getInt());
+        String responseBody = readString(in, in.getInt());
+        String errorType = readString(in, in.getShort());
+        return new AuditLogEntry(id, position, loggedAt, requestedAt, userId == NO_USER ? null : userId,
+                durationMillis, method, uri, requestBody, responseBody, errorType.isEmpty() ? null : errorType);
+    }
+
+    long id() {
+        return id;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long maxLoggedAt() {
+        return maxLoggedAt;
+    }
+
+    private static byte[] userKey(long userId) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(userId).array();
+    }
+
+    private static byte[] bytes(String value, int maxBytes) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return bytes.length <= maxBytes ? bytes : Arrays.copyOf(bytes, maxBytes);
+    }
+
+    private static String readString(ByteBuffer in, int length) {
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
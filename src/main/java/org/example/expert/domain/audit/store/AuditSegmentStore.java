@@ -0,0 +1,168 @@
+package org.example.expert.domain.audit.store;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.aop.audit.AdminAuditRecord;
+import org.example.expert.aop.audit.AdminAuditSink;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+// 감사 로그 전용 저장소: 크기 고정 메모리 맵 세그먼트 파일에 순서대로 append 하고 가득 차면 새 세그먼트로 교체
+// 쓰기는 AdminAuditPipeline 소비자 스레드 하나만 하고, 조회는 여러 스레드에서 동시에 한다
+@Slf4j
+@Component
+public class AuditSegmentStore implements AdminAuditSink {
+
+    @Value("${admin-audit.store.dir:./audit-log}")
+    private String directory;
+
+    @Value("${admin-audit.store.segment-bytes:67108864}")
+    private int segmentBytes;
+
+    // 세그먼트당 예상 레코드 수 (userId Bloom filter 크기)
+    @Value("${admin-audit.store.expected-records-per-segment:100000}")
+    private long expectedRecordsPerSegment;
+
+    @Value("${admin-audit.store.max-body-bytes:65536}")
+    private int maxBodyBytes;
+
+    @Value("${admin-audit.store.retention-days:30}")
+    private long retentionDays;
+
+    private Path root;
+    private final List<AuditSegment> segments = new CopyOnWriteArrayList<>();
+    private volatile AuditSegment active;
+    private long lastLoggedAt;
+
+    @PostConstruct
+    public void open() throws IOException {
+        root = Paths.get(directory);
+        Files.createDirectories(root);
+        try (Stream<Path> files = Files.list(root)) {
+            List<Path> paths = files
+                    .filter(path -> path.getFileName().toString().endsWith(AuditSegment.FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+            for (Path path : paths) {
+                segments.add(AuditSegment.open(path, segmentBytes, expectedRecordsPerSegment));
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.add(AuditSegment.create(root, 1, segmentBytes, expectedRecordsPerSegment));
+        }
+        active = segments.get(segments.size() - 1);
+        lastLoggedAt = Math.max(0, active.maxLoggedAt());
+        log.info("감사 로그 저장소 적재: dir={} segments={}", root.toAbsolutePath(), segments.size());
+    }
+
+    @PreDestroy
+    public void close() {
+        if (active != null) {
+            active.force();
+        }
+    }
+
+    @Override
+    public synchronized void write(List<AdminAuditRecord> records) {
+        for (AdminAuditRecord record : records) {
+            // 세그먼트 안에서 loggedAt 이 단조 증가하도록 보정 (시간 범위 이진 탐색 전제)
+            long loggedAt = Math.max(lastLoggedAt, System.currentTimeMillis());
+            if (!active.append(record, loggedAt, maxBodyBytes)) {
+                rotate();
+                if (!active.append(record, loggedAt, maxBodyBytes)) {
+                    log.warn("감사 로그 레코드가 세그먼트보다 커서 저장하지 못했습니다: uri={}", record.uri());
+                    continue;
+                }
+            }
+            lastLoggedAt = loggedAt;
+        }
+        active.force();
+    }
+
+    private void rotate() {
+        active.force();
+        try {
+            active = AuditSegment.create(root, active.id() + 1, segmentBytes, expectedRecordsPerSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segments.add(active);
+    }
+
+    // [from, to] 구간(loggedAt, epoch ms)의 레코드를 오래된 순으로 최대 size 건 조회
+    public AuditLogSlice query(Long userId, long from, long to, String cursor, int size) {
+        long cursorSegment = 0;
+        int cursorOffset = -1;
+        if (cursor != null) {
+            String[] parts = cursor.split(":");
+            try {
+                cursorSegment = Long.parseLong(parts[0]);
+                cursorOffset = Integer.parseInt(parts[1]);
+            } catch (RuntimeException e) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+            if (cursorOffset < 0) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+        }
+
+        List<AuditLogEntry> page = new ArrayList<>(size);
+        for (AuditSegment segment : segments) {
+            if (segment.id() < cursorSegment || !segment.mayContain(userId, from, to)) {
+                continue;
+            }
+            int start = segment.seek(from);
+            if (segment.id() == cursorSegment && cursorOffset >= 0) {
+                // 조작된 오프셋이 레코드 중간을 가리키면 헤더를 잘못 읽으므로 레코드 시작점만 받는다
+                if (!segment.isRecordBoundary(cursorOffset)) {
+                    throw new InvalidRequestException("잘못된 커서입니다.");
+                }
+                start = cursorOffset;
+            }
+            int stoppedAt = segment.scan(start, userId, from, to, entry -> {
+                if (page.size() >= size) {
+                    return false;
+                }
+                page.add(entry);
+                return true;
+            });
+            if (stoppedAt >= 0) {
+                return new AuditLogSlice(page, segment.id() + ":" + stoppedAt);
+            }
+        }
+        return new AuditLogSlice(page, null);
+    }
+
+    // 보관 기간이 지난 세그먼트 파일 삭제 (매시 정각)
+    @Scheduled(cron = "0 0 * * * *")
+    public void deleteExpiredSegments() {
+        long threshold = System.currentTimeMillis() - Duration.ofDays(retentionDays).toMillis();
+        for (AuditSegment segment : segments) {
+            if (segment == active || segment.maxLoggedAt() >= threshold) {
+                continue;
+            }
+            segments.remove(segment);
+            try {
+                Files.deleteIfExists(segment.path());
+                log.info("보관 기간 지난 감사 로그 세그먼트 삭제: {}", segment.path().getFileName());
+            } catch (IOException e) {
+                throw new ServerException("감사 로그 세그먼트 삭제 실패: " + segment.path().getFileName());
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.expert.domain.auth.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.util.BloomFilter;
+import org.example.expert.domain.user.repository.UserEmail;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+// 가입된 이메일 존재 여부 Bloom filter
+// 이 노드의 가입은 즉시, 다른 노드의 가입은 sync 가 createdAt 으로 주기적으로 읽어 반영한다 (TokenBlacklistCache 와 같은 방식)
+// 음성 판정은 필터가 적재되어 있고 sync 가 max-staleness 안에 돌았을 때만 쓴다, 아니면 DB 로 확인한다
+// 따라서 다른 노드에서 가입한 직후 최대 sync 주기 동안은 로그인이 "가입되지 않은 유저" 로 거절될 수 있다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailExistenceFilter {
+
+    private static final int REBUILD_CHUNK_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+
+    @Value("${auth.email-filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${auth.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${auth.email-filter.max-staleness-ms:15000}")
+    private long maxStalenessMillis;
+
+    // createdAt 은 커밋 전에 찍히므로, 늦게 커밋된 가입을 놓치지 않도록 이만큼 겹쳐 읽는다
+    @Value("${auth.email-filter.sync-overlap-ms:30000}")
+    private long syncOverlapMillis;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding; // 재구성 중 가입한 이메일도 새 필터에 반영
+    private volatile long syncedAt;          // 이 시각까지 커밋된 가입은 필터에 들어 있다
+    private volatile long sizedInsertions;   // 실제로 필터를 만든 크기 (요청 크기가 사용자 수보다 작으면 늘어난다)
+    private volatile long lastRebuildMillis;
+
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder unsyncedLookups = new LongAdder();
+
+    // 재구성은 전체 사용자를 읽으므로 관리자 요청 스레드가 아닌 전용 스레드에서 실행
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "email-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuildAsync(expectedInsertions);
+    }
+
+    // 운영 중 크기 변경도 같은 경로로 처리 (새 필터를 채운 뒤 교체), 진행 상황은 stats 로 확인
+    public void rebuildAsync(long expectedInsertions) {
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild(expectedInsertions);
+            } catch (RuntimeException e) {
+                log.warn("이메일 존재 필터 재구성 실패: expectedInsertions={}", expectedInsertions, e);
+            }
+        });
+    }
+
+    synchronized void rebuild(long expectedInsertions) {
+        long start = System.currentTimeMillis();
+        long userCount = userRepository.count();
+        long sized = expectedInsertions;
+        if (userCount * 2 > expectedInsertions) {
+            // 요청 크기 그대로면 오탐률이 설정값을 크게 넘으므로 늘리되, 조용히 바꾸지 않고 남긴다
+            sized = userCount * 2;
+            log.warn("이메일 존재 필터 요청 크기가 사용자 수에 비해 작아 늘림: requested={} users={} sized={}",
+                    expectedInsertions, userCount, sized);
+        }
+        BloomFilter rebuilt = new BloomFilter(sized, falsePositiveRate);
+        rebuilding = rebuilt;
+
+        try {
+            Long lastId = 0L;
+            while (true) {
+                List<UserEmail> chunk = userRepository.findEmailsAfter(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (UserEmail user : chunk) {
+                    rebuilt.put(normalize(user.getEmail()));
+                }
+                if (chunk.size() < REBUILD_CHUNK_SIZE) {
+                    break;
+                }
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            this.expectedInsertions = expectedInsertions;
+            this.sizedInsertions = sized;
+            filter = rebuilt;
+            syncedAt = start;
+        } finally {
+            rebuilding = null;
+        }
+
+        lastRebuildMillis = System.currentTimeMillis() - start;
+        log.info("이메일 존재 필터 재구성: users={} bits={} memory={}KB took={}ms",
+                userCount, rebuilt.bitSize(), rebuilt.memoryBytes() / 1024, lastRebuildMillis);
+    }
+
+    // 마지막 sync 이후 다른 노드에서 가입한 이메일을 필터에 반영
+    @Scheduled(fixedDelayString = "${auth.email-filter.sync-interval-ms:5000}")
+    public synchronized void sync() {
+        BloomFilter current = filter;
+        if (current == null) {
+            return; // 적재 전에는 재구성이 전체를 읽는다
+        }
+        long start = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(syncedAt - syncOverlapMillis), ZoneId.systemDefault());
+        for (String email : userRepository.findEmailsCreatedSince(since)) {
+            current.put(normalize(email));
+        }
+        syncedAt = start;
+    }
+
+    // false 면 클러스터 어디에도 가입되지 않은 이메일 (sync 주기만큼의 지연은 감수)
+    public boolean mightExist(String email) {
+        BloomFilter current = filter;
+        if (current == null || System.currentTimeMillis() - syncedAt > maxStalenessMillis) {
+            unsyncedLookups.increment();
+            return true; // 적재 전이거나 sync 가 밀렸으면 판단하지 않음
+        }
+        boolean result = current.mightContain(normalize(email));
+        if (!result) {
+            negatives.increment();
+        }
+        return result;
+    }
+
+    public void add(String email) {
+        byte[] key = normalize(email);
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(key);
+        }
+    }
+
+    public EmailExistenceFilterStats stats() {
+        BloomFilter current = filter;
+        return new EmailExistenceFilterStats(
+                current != null,
+                rebuilding != null,
+                expectedInsertions,
+                sizedInsertions,
+                current == null ? 0 : current.bitSize(),
+                current == null ? 0 : current.memoryBytes(),
+                lastRebuildMillis,
+                syncedAt,
+                negatives.sum(),
+                unsyncedLookups.sum()
+        );
+    }
+
+    private static byte[] normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.auth.cache;
+
+public record EmailExistenceFilterStats(
+        boolean ready,
+        boolean rebuilding,
+        long expectedInsertions,
+        long sizedInsertions,
+        long bloomBits,
+        long memoryBytes,
+        long lastRebuildMillis,
+        long syncedAt,
+        long negatives,
+        long unsyncedLookups
+) {
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.auth.cache;
+
+import java.time.LocalDateTime;
+
+// 재발급에 필요한 정보만 담은 리프레시 토큰 캐시 항목 (토큰 원문 대신 digest 보관)
+public record RefreshSession(
+        Long userId,
+        String tokenDigest,
+        LocalDateTime expiresAt,
+        String email,
+        String userRole,
+        long tokenVersion
+) {
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    public RefreshSession rotate(String newTokenDigest, LocalDateTime newExpiresAt) {
+        return new RefreshSession(userId, newTokenDigest, newExpiresAt, email, userRole, tokenVersion);
+    }
+}
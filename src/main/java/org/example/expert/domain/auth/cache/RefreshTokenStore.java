@@ -0,0 +1,183 @@
+package org.example.expert.domain.auth.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.common.exception.InvalidTokenException;
+import org.example.expert.domain.common.util.AfterCommit;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.security.util.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 다중 세션 리프레시 토큰 저장소 (토큰 digest 기준)
+// RefreshTokenRepository 앞단의 write-through 캐시로, 캐시 히트 시 재발급에 SELECT 가 없다
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenEpochCache tokenEpochCache;
+
+    @Value("${auth.refresh-cache.max-size:100000}")
+    private int maxSize;
+
+    // 사용자당 최대 세션 수, 넘으면 가장 오래된 세션부터 삭제
+    @Value("${auth.refresh.max-sessions-per-user:5}")
+    private int maxSessionsPerUser;
+
+    private final Map<String, RefreshSession> sessions = new ConcurrentHashMap<>();
+
+    // 사용자별 세션 digest 색인, 사용자 단위 제거가 전체 캐시를 훑지 않도록 한다
+    // sessions 변경은 항상 해당 사용자 키의 compute 안에서 해 두 맵이 어긋나지 않게 한다
+    private final Map<Long, Set<String>> digestsByUser = new ConcurrentHashMap<>();
+
+    public void create(User user, String token, LocalDateTime expiresAt) {
+        String digest = TokenDigest.sha256Hex(token);
+        refreshTokenRepository.save(new RefreshToken(digest, user.getId(), expiresAt));
+        evictOldestSessions(user.getId());
+
+        RefreshSession session = new RefreshSession(
+                user.getId(),
+                digest,
+                expiresAt,
+                user.getEmail(),
+                user.getUserRole().name(),
+                user.getTokenVersion()
+        );
+        AfterCommit.run(() -> put(session));
+    }
+
+    // 제시된 세션을 새 토큰으로 교체하고 갱신된 세션을 반환
+    public RefreshSession rotate(Long userId, String presentedToken, String newToken, LocalDateTime newExpiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        String digest = TokenDigest.sha256Hex(presentedToken);
+        RefreshSession session = find(digest, now);
+
+        if (!session.userId().equals(userId)) {
+            throw new InvalidTokenException("Refresh Token 불일치");
+        }
+        if (session.isExpired(now)) {
+            remove(digest);
+            throw new InvalidTokenException("Refresh Token 만료");
+        }
+
+        // 다른 요청/노드가 먼저 교체했다면 0 건
+        if (refreshTokenRepository.deleteByTokenDigest(digest) == 0) {
+            remove(digest);
+            throw new InvalidTokenException("Refresh Token 불일치");
+        }
+        RefreshSession rotated = session.rotate(TokenDigest.sha256Hex(newToken), newExpiresAt);
+        refreshTokenRepository.save(new RefreshToken(rotated.tokenDigest(), userId, newExpiresAt));
+
+        remove(digest);
+        AfterCommit.run(() -> put(rotated));
+        return rotated;
+    }
+
+    // 세션 하나만 폐기 (해당 기기 로그아웃)
+    public void revoke(Long userId, String token) {
+        String digest = TokenDigest.sha256Hex(token);
+        RefreshSession cached = sessions.get(digest);
+        if (cached != null && !cached.userId().equals(userId)) {
+            throw new InvalidTokenException("Refresh Token 불일치");
+        }
+        remove(digest);
+        refreshTokenRepository.findById(digest)
+                .filter(saved -> saved.getUserId().equals(userId))
+                .ifPresent(saved -> refreshTokenRepository.deleteByTokenDigest(digest));
+        AfterCommit.run(() -> remove(digest));
+    }
+
+    // 사용자의 모든 세션 폐기 (DELETE 한 번)
+    public void revokeAll(Long userId) {
+        evict(userId);
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    // 권한 변경 등 캐시에 담긴 사용자 정보가 바뀌었을 때
+    // 커밋 전에 지우면 다른 요청이 옛 정보로 다시 적재할 수 있으므로 커밋 후 한 번만 제거 (색인으로 해당 사용자 세션만)
+    public void evict(Long userId) {
+        AfterCommit.run(() -> digestsByUser.compute(userId, (id, digests) -> {
+            if (digests != null) {
+                digests.forEach(sessions::remove);
+            }
+            return null;
+        }));
+    }
+
+    private void evictOldestSessions(Long userId) {
+        List<String> digests = refreshTokenRepository.findDigestsByUserIdNewestFirst(userId);
+        if (digests.size() <= maxSessionsPerUser) {
+            return;
+        }
+        List<String> oldest = digests.subList(maxSessionsPerUser, digests.size());
+        refreshTokenRepository.deleteAllByTokenDigestIn(oldest);
+        oldest.forEach(this::remove);
+    }
+
+    private RefreshSession find(String digest, LocalDateTime now) {
+        // 권한 변경 등으로 epoch 가 올라갔다면 캐시된 권한/버전 대신 DB 사용자로 다시 적재
+        RefreshSession cached = sessions.get(digest);
+        if (cached != null && !cached.isExpired(now)
+                && !tokenEpochCache.isRevoked(cached.userId(), cached.tokenVersion())) {
+            return cached;
+        }
+
+        RefreshToken savedToken = refreshTokenRepository.findById(digest)
+                .orElseThrow(() -> new InvalidTokenException("저장된 리프레시 토큰 없음"));
+        User user = userRepository.findById(savedToken.getUserId())
+                .orElseThrow(() -> new InvalidTokenException("저장된 리프레시 토큰 없음"));
+
+        RefreshSession loaded = new RefreshSession(
+                user.getId(),
+                digest,
+                savedToken.getExpiresAt(),
+                user.getEmail(),
+                user.getUserRole().name(),
+                user.getTokenVersion()
+        );
+        put(loaded);
+        return loaded;
+    }
+
+    private void put(RefreshSession session) {
+        if (sessions.size() >= maxSize) {
+            LocalDateTime now = LocalDateTime.now();
+            sessions.values().stream()
+                    .filter(cached -> cached.isExpired(now))
+                    .map(RefreshSession::tokenDigest)
+                    .toList()
+                    .forEach(this::remove);
+        }
+        if (sessions.size() < maxSize) {
+            digestsByUser.compute(session.userId(), (id, digests) -> {
+                Set<String> indexed = digests == null ? new HashSet<>() : digests;
+                indexed.add(session.tokenDigest());
+                sessions.put(session.tokenDigest(), session);
+                return indexed;
+            });
+        }
+    }
+
+    private void remove(String digest) {
+        RefreshSession cached = sessions.get(digest);
+        if (cached == null) {
+            return;
+        }
+        digestsByUser.computeIfPresent(cached.userId(), (id, digests) -> {
+            digests.remove(digest);
+            sessions.remove(digest);
+            return digests.isEmpty() ? null : digests;
+        });
+    }
+}
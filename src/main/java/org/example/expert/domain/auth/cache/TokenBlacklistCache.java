@@ -0,0 +1,168 @@
+package org.example.expert.domain.auth.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.entity.TokenBlacklist;
+import org.example.expert.domain.auth.repository.TokenBlacklistRepository;
+import org.example.expert.domain.common.util.BloomFilter;
+import org.example.expert.security.util.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 블랙리스트 조회 앞단의 로컬 캐시
+// Bloom filter 에 없으면 DB 를 타지 않고, Bloom 히트일 때만 정확 집합 -> DB 순으로 확인한다
+// 다른 노드에서 폐기한 토큰은 sync 가 주기적으로 token_blacklist 의 새 행을 읽어 반영한다 (최대 sync 주기만큼 지연)
+// 필터를 아직 적재하지 않았거나 sync 가 max-staleness 이상 밀렸으면 필터를 믿지 않고 DB 로 확인한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistCache {
+
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+
+    @Value("${auth.blacklist-cache.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${auth.blacklist-cache.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${auth.blacklist-cache.max-staleness-ms:15000}")
+    private long maxStalenessMillis;
+
+    // revokedAt 은 커밋 전에 찍히므로, 늦게 커밋된 행을 놓치지 않도록 이만큼 겹쳐 읽는다
+    @Value("${auth.blacklist-cache.sync-overlap-ms:30000}")
+    private long syncOverlapMillis;
+
+    private volatile BloomFilter bloomFilter; // null 이면 아직 적재 전
+    private volatile BloomFilter rebuilding;  // 재구성 중 폐기한 토큰도 새 필터에 반영
+    private volatile long syncedAt;           // 이 시각까지 커밋된 폐기 토큰은 필터에 들어 있다
+
+    // 이 노드에서 직접 폐기한 토큰 (digest -> 만료 시각 epoch ms)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    private final LongAdder bloomNegatives = new LongAdder();
+    private final LongAdder exactHits = new LongAdder();
+    private final LongAdder dbConfirmed = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder unsyncedLookups = new LongAdder();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // token_blacklist 테이블 기준으로 Bloom filter 재구성
+    // sync 는 추가만 하므로 만료된 digest 가 쌓여 오탐률이 오르지 않도록 lease 와 무관하게 노드마다 주기적으로 다시 만든다
+    @Scheduled(initialDelayString = "${auth.blacklist-cache.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${auth.blacklist-cache.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        // 아직 만료되지 않은 버킷의 digest 만 적재
+        List<String> digests = tokenBlacklistRepository.findDigestsFromBucket(TokenBlacklist.bucketOf(start));
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, digests.size() * 2L), falsePositiveRate);
+        rebuilding = rebuilt;
+        try {
+            for (String digest : digests) {
+                rebuilt.put(HexFormat.of().parseHex(digest));
+            }
+
+            evictExpired();
+            // 조회 이전에 폐기된 토큰은 정확 집합에서, 이후에 폐기된 토큰은 revoke 의 이중 기록으로 반영된다
+            revokedTokens.keySet().forEach(digest -> rebuilt.put(HexFormat.of().parseHex(digest)));
+            bloomFilter = rebuilt;
+            syncedAt = start;
+
+            log.info("토큰 블랙리스트 캐시 재구성: digests={} bits={} hashes={} took={}ms",
+                    digests.size(), rebuilt.bitSize(), rebuilt.hashCount(), System.currentTimeMillis() - start);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    // 마지막 sync 이후 다른 노드에서 추가된 폐기 토큰을 필터에 반영
+    @Scheduled(fixedDelayString = "${auth.blacklist-cache.sync-interval-ms:5000}")
+    public synchronized void sync() {
+        BloomFilter current = bloomFilter;
+        if (current == null) {
+            return; // 적재 전에는 warmUp 이 전체를 읽는다
+        }
+        long start = System.currentTimeMillis();
+        List<String> digests = tokenBlacklistRepository.findDigestsRevokedSince(
+                syncedAt - syncOverlapMillis, TokenBlacklist.bucketOf(start));
+        for (String digest : digests) {
+            current.put(HexFormat.of().parseHex(digest));
+        }
+        syncedAt = start;
+    }
+
+    public void revoke(String token, long expiresAtMillis) {
+        byte[] digest = TokenDigest.sha256(token);
+        revokedTokens.put(HexFormat.of().formatHex(digest), expiresAtMillis);
+        BloomFilter current = bloomFilter;
+        if (current != null) {
+            current.put(digest);
+        }
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(digest);
+        }
+    }
+
+    public boolean isRevoked(String token) {
+        byte[] digest = TokenDigest.sha256(token);
+        BloomFilter current = bloomFilter;
+        if (current == null || System.currentTimeMillis() - syncedAt > maxStalenessMillis) {
+            // 필터가 클러스터 전체를 담고 있다고 볼 수 없으므로 음성 판정을 쓰지 않는다
+            unsyncedLookups.increment();
+        } else if (!current.mightContain(digest)) {
+            bloomNegatives.increment();
+            return false;
+        }
+
+        String digestHex = HexFormat.of().formatHex(digest);
+        if (revokedTokens.containsKey(digestHex)) {
+            exactHits.increment();
+            return true;
+        }
+
+        if (tokenBlacklistRepository.existsById(digestHex)) {
+            dbConfirmed.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    // 만료된 토큰은 JWT 검증 단계에서 걸러지므로 정확 집합에서 제거해도 안전하다
+    // 재구성 주기와 별개로 노드마다 자주 돌려 정확 집합이 계속 커지지 않게 한다
+    @Scheduled(fixedDelayString = "${auth.blacklist-cache.evict-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+    }
+
+    public TokenBlacklistCacheStats stats() {
+        BloomFilter current = bloomFilter;
+        return new TokenBlacklistCacheStats(
+                bloomNegatives.sum(),
+                exactHits.sum(),
+                dbConfirmed.sum(),
+                falsePositives.sum(),
+                unsyncedLookups.sum(),
+                revokedTokens.size(),
+                current == null ? 0 : current.bitSize(),
+                current == null ? 0 : current.hashCount(),
+                syncedAt
+        );
+    }
+}
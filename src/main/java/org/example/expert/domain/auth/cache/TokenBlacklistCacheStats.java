@@ -0,0 +1,14 @@
+package org.example.expert.domain.auth.cache;
+
+public record TokenBlacklistCacheStats(
+        long bloomNegatives,
+        long exactHits,
+        long dbConfirmed,
+        long falsePositives,
+        long unsyncedLookups,
+        int exactSize,
+        long bloomBits,
+        int bloomHashes,
+        long syncedAt
+) {
+}
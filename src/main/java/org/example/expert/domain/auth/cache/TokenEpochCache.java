@@ -0,0 +1,61 @@
+package org.example.expert.domain.auth.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.util.AfterCommit;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.repository.UserTokenVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 토큰 세대(epoch) 캐시
+// 토큰의 ver 클레임이 현재 epoch 보다 작으면 폐기된 토큰이다. epoch 0 인 사용자는 저장하지 않는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenEpochCache {
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+
+    // modifiedAt 은 커밋 전에 찍히고 노드마다 시계가 다를 수 있으므로 이만큼 겹쳐 읽는다
+    @Value("${auth.token-epoch.reload-overlap-ms:30000}")
+    private long reloadOverlapMillis;
+
+    private LocalDateTime reloadedAt; // null 이면 아직 전체 적재 전
+
+    // 기동 직후 한 번 전체를 적재하고, 이후에는 마지막 적재 이후 수정된 사용자만 읽어 다른 노드에서 올린 epoch 를 반영
+    @Scheduled(fixedDelayString = "${auth.token-epoch.reload-interval-ms:60000}")
+    public synchronized void reload() {
+        LocalDateTime start = LocalDateTime.now();
+        List<UserTokenVersion> versions = reloadedAt == null
+                ? userRepository.findAllByTokenVersionGreaterThan(0L)
+                : userRepository.findTokenVersionsModifiedSince(reloadedAt.minus(reloadOverlapMillis, ChronoUnit.MILLIS));
+        for (UserTokenVersion version : versions) {
+            epochs.merge(version.getId(), version.getTokenVersion(), Math::max);
+        }
+        reloadedAt = start;
+        log.debug("토큰 epoch 캐시 갱신: users={}", versions.size());
+    }
+
+    public long currentEpoch(Long userId) {
+        return epochs.getOrDefault(userId, 0L);
+    }
+
+    public boolean isRevoked(Long userId, long tokenVersion) {
+        return tokenVersion < currentEpoch(userId);
+    }
+
+    // 트랜잭션이 롤백되면 새로 발급한 토큰까지 거부되지 않도록 커밋 이후에 반영
+    public void updateAfterCommit(Long userId, long epoch) {
+        AfterCommit.run(() -> epochs.merge(userId, epoch, Math::max));
+    }
+}
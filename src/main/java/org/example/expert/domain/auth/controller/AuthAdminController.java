@@ -0,0 +1,61 @@
+package org.example.expert.domain.auth.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.cache.EmailExistenceFilter;
+import org.example.expert.domain.auth.cache.EmailExistenceFilterStats;
+import org.example.expert.domain.auth.cache.TokenBlacklistCache;
+import org.example.expert.domain.auth.cache.TokenBlacklistCacheStats;
+import org.example.expert.domain.auth.dto.response.TokenPurgeReport;
+import org.example.expert.domain.auth.service.TokenPurgeService;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.util.LatencyHistogram;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class AuthAdminController {
+
+    private final TokenBlacklistCache tokenBlacklistCache;
+    private final PasswordEncoder passwordEncoder;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final TokenPurgeService tokenPurgeService;
+
+    @GetMapping("/admin/auth/blacklist-cache")
+    public ResponseEntity<TokenBlacklistCacheStats> getBlacklistCacheStats() {
+        return ResponseEntity.ok(tokenBlacklistCache.stats());
+    }
+
+    // 정리는 lease 를 잡은 노드에서만 실행되므로 다른 노드에서는 빈 목록일 수 있다
+    @GetMapping("/admin/auth/token-purge")
+    public ResponseEntity<List<TokenPurgeReport>> getTokenPurgeReports() {
+        return ResponseEntity.ok(tokenPurgeService.getLastReports());
+    }
+
+    @GetMapping("/admin/auth/password-hashing")
+    public ResponseEntity<Map<String, Map<String, LatencyHistogram.Snapshot>>> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordEncoder.stats());
+    }
+
+    @GetMapping("/admin/auth/email-filter")
+    public ResponseEntity<EmailExistenceFilterStats> getEmailFilterStats() {
+        return ResponseEntity.ok(emailExistenceFilter.stats());
+    }
+
+    // 재구성은 백그라운드에서 진행되므로 완료 여부는 GET /admin/auth/email-filter 로 확인
+    @PostMapping("/admin/auth/email-filter/rebuild")
+    public ResponseEntity<EmailExistenceFilterStats> rebuildEmailFilter(@RequestParam long expectedInsertions) {
+        if (expectedInsertions <= 0) {
+            throw new InvalidRequestException("expectedInsertions 는 1 이상이어야 합니다.");
+        }
+        emailExistenceFilter.rebuildAsync(expectedInsertions);
+        return ResponseEntity.accepted().body(emailExistenceFilter.stats());
+    }
+}
@@ -31,8 +31,12 @@ public class AuthController {
 
     @Transactional
     @PostMapping("/auth/signout")
-    public void logout(@AuthenticationPrincipal UserPrincipal principal, @RequestHeader("Authorization") String token) {
-        authService.signout(principal.getId(), token);
+    public void logout(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestHeader("Authorization") String token,
+            @RequestHeader(value = "Refresh-Token", required = false) String refreshToken
+    ) {
+        authService.signout(principal.getId(), token, refreshToken);
     }
 
     @PostMapping("/reissue")
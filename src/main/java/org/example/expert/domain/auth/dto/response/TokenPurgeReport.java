@@ -0,0 +1,32 @@
+package org.example.expert.domain.auth.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TokenPurgeReport {
+
+    private final String table;
+    private final long rows;
+    private final int chunks;
+    private final long elapsedMillis;
+    private final long maxTransactionMillis;
+    private final long rowsPerSecond;
+    private final LocalDateTime finishedAt;
+
+    private TokenPurgeReport(String table, long rows, int chunks, long elapsedMillis, long maxTransactionMillis, long rowsPerSecond) {
+        this.table = table;
+        this.rows = rows;
+        this.chunks = chunks;
+        this.elapsedMillis = elapsedMillis;
+        this.maxTransactionMillis = maxTransactionMillis;
+        this.rowsPerSecond = rowsPerSecond;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public static TokenPurgeReport of(String table, long rows, int chunks, long elapsedNanos, long maxTransactionNanos) {
+        long rowsPerSecond = elapsedNanos == 0 ? rows : rows * 1_000_000_000L / elapsedNanos;
+        return new TokenPurgeReport(table, rows, chunks, elapsedNanos / 1_000_000, maxTransactionNanos / 1_000_000, rowsPerSecond);
+    }
+}
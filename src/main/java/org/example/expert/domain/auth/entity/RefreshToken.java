@@ -3,39 +3,64 @@ package org.example.expert.domain.auth.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
+// 로그인 세션(기기) 하나당 한 행, 토큰 원문 대신 SHA-256 digest 를 키로 사용
 @Entity
 @Getter
 @NoArgsConstructor
-public class RefreshToken {
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_user_id", columnList = "userId"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt")
+})
+public class RefreshToken implements Persistable<String> {
 
     @Id
-    private Long userId;
+    @Column(length = 64, columnDefinition = "char(64)")
+    private String tokenDigest;
 
-    @Column(nullable = false, length = 512)
-    private String token;
+    @Column(nullable = false)
+    private Long userId;
 
     @Column(nullable = false)
     private LocalDateTime expiresAt;
 
-//    public RefreshToken(Long userId, String token) {
-//        this.userId = userId;
-//        this.token = token;
-//        this.expiresAt = LocalDateTime.now().plusDays(14);//14일
-//    }
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 새로 만든 세션은 SELECT 없이 바로 INSERT
+    @Transient
+    private boolean isNew = true;
 
-    public RefreshToken(Long userId, String token, LocalDateTime expiresAt) {
+    public RefreshToken(String tokenDigest, Long userId, LocalDateTime expiresAt) {
+        this.tokenDigest = tokenDigest;
         this.userId = userId;
-        this.token = token;
         this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public String getId() {
+        return tokenDigest;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
     }
 
-    public void update(String newToken, LocalDateTime newExp) {
-        this.token = newToken;
-        this.expiresAt = newExp;
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
     }
 }
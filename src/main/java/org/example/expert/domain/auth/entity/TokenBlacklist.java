@@ -9,13 +9,26 @@ import org.example.expert.domain.auth.enums.BlacklistReason;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "token_blacklist")
+@Table(name = "token_blacklist", indexes = {
+        @Index(name = "idx_token_blacklist_bucket", columnList = "expiryBucket"),
+        @Index(name = "idx_token_blacklist_revoked_at", columnList = "revokedAt")
+})
 public class TokenBlacklist {
 
+    public static final long BUCKET_MILLIS = 60 * 60 * 1000L; // 1시간 단위 버킷
+
     @Id
-    private String token;
+    @Column(length = 64, columnDefinition = "char(64)")
+    private String tokenDigest; // 토큰 원문 대신 SHA-256 (hex)
+
+    @Column(nullable = false)
+    private long expiresAt; // 만료 시각 (epoch ms)
+
+    @Column(nullable = false)
+    private long expiryBucket; // expiresAt 이 속한 시간 버킷, 정리 시 버킷 단위로 삭제
 
-    private long expiration; // 만료 시각 (timestamp)
+    @Column(nullable = false)
+    private long revokedAt; // 폐기 시각 (epoch ms), 다른 노드가 이후에 추가된 행만 읽어 캐시에 반영
 
     // 추가 정보
     private Long userId; // 어떤 사용자의 토큰인지
@@ -23,11 +36,17 @@ public class TokenBlacklist {
     @Enumerated(EnumType.STRING)
     private BlacklistReason reason;    // 블랙리스트 사유
 
-    public TokenBlacklist(String token, long expiration, Long userId, BlacklistReason reason) {
-        this.token = token;
-        this.expiration = expiration;
+    public TokenBlacklist(String tokenDigest, long expiresAt, Long userId, BlacklistReason reason) {
+        this.tokenDigest = tokenDigest;
+        this.expiresAt = expiresAt;
+        this.expiryBucket = bucketOf(expiresAt);
+        this.revokedAt = System.currentTimeMillis();
         this.userId = userId;
         this.reason = reason;
     }
 
+    public static long bucketOf(long epochMillis) {
+        return epochMillis / BUCKET_MILLIS;
+    }
+
 }
@@ -5,4 +5,9 @@ public class AuthException extends RuntimeException {
     public AuthException(String message) {
         super(message);
     }
+
+    // 로그인 비밀번호 불일치
+    public AuthException(String message, boolean captureStackTrace) {
+        super(message, null, false, captureStackTrace);
+    }
 }
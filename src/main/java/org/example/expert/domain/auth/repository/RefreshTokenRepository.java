@@ -1,11 +1,33 @@
 package org.example.expert.domain.auth.repository;
 
 import org.example.expert.domain.auth.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
 
-    void deleteAllByExpiresAtBefore(LocalDateTime now);
-}
\ No newline at end of file
+    @Query("SELECT r.tokenDigest FROM RefreshToken r WHERE r.userId = :userId ORDER BY r.createdAt DESC")
+    List<String> findDigestsByUserIdNewestFirst(@Param("userId") Long userId);
+
+    // 제시된 세션이 아직 남아 있을 때만 1 건
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenDigest = :tokenDigest")
+    int deleteByTokenDigest(@Param("tokenDigest") String tokenDigest);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT r.tokenDigest FROM RefreshToken r WHERE r.expiresAt < :now ORDER BY r.expiresAt")
+    List<String> findExpiredDigests(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenDigest IN :tokenDigests")
+    int deleteAllByTokenDigestIn(@Param("tokenDigests") List<String> tokenDigests);
+}
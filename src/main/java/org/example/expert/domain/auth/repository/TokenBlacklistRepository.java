@@ -1,11 +1,29 @@
 package org.example.expert.domain.auth.repository;
 
 import org.example.expert.domain.auth.entity.TokenBlacklist;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist, String> {
-    boolean existsByToken(String token);
 
+    @Query("SELECT t.tokenDigest FROM TokenBlacklist t WHERE t.expiryBucket >= :bucket")
+    List<String> findDigestsFromBucket(@Param("bucket") long bucket);
+
+    @Query("SELECT t.tokenDigest FROM TokenBlacklist t WHERE t.revokedAt >= :since AND t.expiryBucket >= :bucket")
+    List<String> findDigestsRevokedSince(@Param("since") long since, @Param("bucket") long bucket);
+
+    @Query("SELECT DISTINCT t.expiryBucket FROM TokenBlacklist t WHERE t.expiryBucket < :bucket ORDER BY t.expiryBucket")
+    List<Long> findBucketsBefore(@Param("bucket") long bucket);
+
+    @Query("SELECT t.tokenDigest FROM TokenBlacklist t WHERE t.expiryBucket = :bucket")
+    List<String> findDigestsInBucket(@Param("bucket") long bucket, Pageable pageable);
 
-    void deleteAllByExpirationBefore(Long timestamp);
-}
\ No newline at end of file
+    @Modifying
+    @Query("DELETE FROM TokenBlacklist t WHERE t.tokenDigest IN :tokenDigests")
+    int deleteAllByTokenDigestIn(@Param("tokenDigests") List<String> tokenDigests);
+}
@@ -2,28 +2,41 @@ package org.example.expert.domain.auth.scheduler;
 
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.auth.repository.RefreshTokenRepository;
-import org.example.expert.domain.auth.repository.TokenBlacklistRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.service.TokenPurgeService;
+import org.example.expert.domain.common.service.SchedulerLeaseService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TokenCleanUpScheduler {
 
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private static final String LEASE_NAME = "token-cleanup";
 
+    private final TokenPurgeService tokenPurgeService;
+    private final SchedulerLeaseService schedulerLeaseService;
 
-    // 매일 새벽 3시에 실행
+    @Value("${auth.purge.lease-minutes:30}")
+    private long leaseMinutes;
+
+
+    // 매일 새벽 3시에 실행 (lease 를 잡은 노드 하나만)
+    // 블랙리스트 캐시 재구성은 노드마다 TokenBlacklistCache 가 직접 주기적으로 한다
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
     public void deleteExpiredTokens() {
-        LocalDateTime now = LocalDateTime.now();
-        refreshTokenRepository.deleteAllByExpiresAtBefore(now);
-        tokenBlacklistRepository.deleteAllByExpirationBefore(System.currentTimeMillis());
+        if (!schedulerLeaseService.tryAcquire(LEASE_NAME, Duration.ofMinutes(leaseMinutes))) {
+            log.info("다른 노드에서 만료 토큰 정리 중이므로 건너뜀");
+            return;
+        }
+        try {
+            tokenPurgeService.purgeExpired();
+        } finally {
+            schedulerLeaseService.release(LEASE_NAME);
+        }
     }
 }
@@ -2,34 +2,46 @@ package org.example.expert.domain.auth.service;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PreDestroy;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.cache.EmailExistenceFilter;
+import org.example.expert.domain.auth.cache.RefreshSession;
+import org.example.expert.domain.auth.cache.RefreshTokenStore;
+import org.example.expert.domain.auth.cache.TokenBlacklistCache;
+import org.example.expert.domain.auth.cache.TokenEpochCache;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
-import org.example.expert.domain.auth.entity.RefreshToken;
 import org.example.expert.domain.auth.entity.TokenBlacklist;
 import org.example.expert.domain.auth.enums.BlacklistReason;
 import org.example.expert.domain.auth.exception.AuthException;
-import org.example.expert.domain.auth.repository.RefreshTokenRepository;
 import org.example.expert.domain.auth.repository.TokenBlacklistRepository;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.InvalidTokenException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.example.expert.security.util.JwtUtil;
+import org.example.expert.security.util.TokenDigest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.example.expert.domain.auth.enums.BlacklistReason;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -38,63 +50,120 @@ public class AuthService {
     private final TokenBlacklistRepository tokenBlacklistRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenBlacklistCache tokenBlacklistCache;
+    private final TokenEpochCache tokenEpochCache;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final TransactionTemplate transactionTemplate;
+
+    // 재해싱 결과 저장용, 해싱 풀 스레드가 DB 작업을 기다리지 않도록 분리
+    private final ExecutorService rehashWriter = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "password-rehash-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        rehashWriter.shutdown();
+    }
 
-    @Transactional
+    // 중복 이메일은 해싱 풀을 쓰기 전에 거절하고, 해싱은 커넥션을 잡기 전에 끝낸다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+        // 필터 음성이면 DB 조회를 건너뛴다, sync 전의 다른 노드 가입이나 동시 가입은 unique 제약으로 거절된다
+        if (emailExistenceFilter.mightExist(signupRequest.getEmail())
+                && userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
-
+        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword()); // 풀이 가득 차면 429
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
-        User newUser = new User(
-                signupRequest.getEmail(),
+        try {
+            return transactionTemplate.execute(status -> saveNewUser(signupRequest.getEmail(), encodedPassword, userRole));
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+    }
+
+    private SignupResponse saveNewUser(String email, String encodedPassword, UserRole userRole) {
+        // unique 제약 위반이 커밋 시점이 아니라 여기서 드러나도록 flush
+        User savedUser = userRepository.saveAndFlush(new User(
+                email,
                 encodedPassword,
                 userRole
-        );
-        User savedUser = userRepository.save(newUser);
+        ));
+        emailExistenceFilter.add(savedUser.getEmail());
 
-        String accessToken = jwtUtil.createAccessToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole().name());
+        String accessToken = jwtUtil.createAccessToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole().name(), savedUser.getTokenVersion());
         String refreshToken = jwtUtil.createRefreshToken();
 
         LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(jwtUtil.getRefreshTokenTtl());
-        refreshTokenRepository.save(new RefreshToken(savedUser.getId(), refreshToken, expiresAt));
+        refreshTokenStore.create(savedUser, refreshToken, expiresAt);
 
         return new SignupResponse(accessToken, refreshToken);
     }
 
-    @Transactional
+    // 사용자 조회는 짧은 읽기로 끝내고, 비밀번호 검증(bcrypt)은 트랜잭션/커넥션 없이 수행한 뒤 세션 저장만 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
 
+        // 필터 음성이면 DB 를 타지 않고 거절 (필터가 sync 된 상태일 때만 음성이 나온다)
+        if (!emailExistenceFilter.mightExist(signinRequest.getEmail())) {
+            throw new InvalidRequestException("가입되지 않은 유저입니다.", false);
+        }
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
-                () -> new InvalidRequestException("가입되지 않은 유저입니다."));
+                () -> new InvalidRequestException("가입되지 않은 유저입니다.", false));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
         if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
-            throw new AuthException("잘못된 비밀번호입니다.");
+            throw new AuthException("잘못된 비밀번호입니다.", false);
         }
+        rehashIfNeeded(user, signinRequest.getPassword());
 
-        String accessToken = jwtUtil.createAccessToken(user.getId(), user.getEmail(), user.getUserRole().name());
+        String accessToken = jwtUtil.createAccessToken(user.getId(), user.getEmail(), user.getUserRole().name(), user.getTokenVersion());
         String refreshToken = jwtUtil.createRefreshToken();
         LocalDateTime newExpiresAt = LocalDateTime.now().plusSeconds(jwtUtil.getRefreshTokenTtl());
 
-        refreshTokenRepository.findById(user.getId())
-                .ifPresentOrElse(
-                        token -> token.update(refreshToken, newExpiresAt),
-                        () -> refreshTokenRepository.save(new RefreshToken(user.getId(), refreshToken, newExpiresAt))
-                );
+        transactionTemplate.executeWithoutResult(status -> refreshTokenStore.create(user, refreshToken, newExpiresAt));
 
         return new SigninResponse(accessToken, refreshToken);
     }
 
-    public void signout(Long userId, String bearerToken) {
+    // 현재 설정보다 낮은 cost 로 만들어진 해시는 로그인 응답과 무관하게 비동기로 재해싱
+    // 해싱은 해싱 풀에서, 저장은 별도 스레드에서 자체 트랜잭션으로 처리한다
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.needsRehash(user.getPassword())) {
+            return;
+        }
+        Long userId = user.getId();
+        String oldPassword = user.getPassword();
+        try {
+            passwordEncoder.encodeAsync(rawPassword)
+                    .thenAcceptAsync(newPassword -> {
+                        Integer updated = transactionTemplate.execute(status ->
+                                userRepository.updatePasswordIfUnchanged(userId, oldPassword, newPassword));
+                        if (updated == null || updated == 0) {
+                            log.info("비밀번호가 그 사이 변경되어 재해싱 결과를 버림: userId={}", userId);
+                        }
+                    }, rehashWriter)
+                    .exceptionally(ex -> {
+                        log.warn("비밀번호 재해싱 실패: userId={}", userId, ex);
+                        return null;
+                    });
+        } catch (TooManyRequestsException e) {
+            log.debug("해싱 풀 포화로 재해싱 생략: userId={}", userId);
+        }
+    }
+
+    // 리프레시 토큰을 함께 보내면 해당 세션만, 없으면 사용자의 모든 세션을 종료
+    @Transactional
+    public void signout(Long userId, String bearerToken, String refreshToken) {
         String accessToken = jwtUtil.extractToken(bearerToken);
         Long tokenUserId = jwtUtil.extractUserId(accessToken);
-        long expiration = jwtUtil.getExpiration(accessToken);
+        long expiresAt = jwtUtil.getExpiresAt(accessToken);
 
 
         // userId와 토큰 안의 userId 비교
@@ -102,33 +171,27 @@ public class AuthService {
             throw new InvalidTokenException("로그아웃 권한이 없습니다.");
         }
 
-        tokenBlacklistRepository.save(new TokenBlacklist(accessToken, expiration, userId, BlacklistReason.LOGOUT));
-        refreshTokenRepository.deleteById(userId);
+        tokenBlacklistRepository.save(new TokenBlacklist(TokenDigest.sha256Hex(accessToken), expiresAt, userId, BlacklistReason.LOGOUT));
+        tokenBlacklistCache.revoke(accessToken, expiresAt);
+        if (StringUtils.hasText(refreshToken)) {
+            refreshTokenStore.revoke(userId, refreshToken);
+        } else {
+            refreshTokenStore.revokeAll(userId);
+        }
     }
 
     //토큰 재발급
+    @Transactional
     public SigninResponse reissue(Long userId, String requestRefreshToken) {
 
         // 서명 + 만료 검증
         try {
             jwtUtil.validateToken(requestRefreshToken);
         } catch (ExpiredJwtException e) {
-            throw new InvalidTokenException("Refresh Token 만료");
+            throw new InvalidTokenException("Refresh Token 만료", false);
         } catch (JwtException e) {
-            throw new InvalidTokenException("Refresh Token 위조 또는 잘못된 형식");
-        }
-
-        // DB 토큰 일치 여부
-        RefreshToken savedToken = refreshTokenRepository.findById(userId)
-                .orElseThrow(() -> new InvalidTokenException("저장된 리프레시 토큰 없음"));
-
-        if (!savedToken.getToken().equals(requestRefreshToken)) {
-            throw new InvalidTokenException("Refresh Token 불일치");
+            throw new InvalidTokenException("Refresh Token 위조 또는 잘못된 형식", false);
         }
-        if (savedToken.getExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new InvalidTokenException("Refresh Token 만료");
-        }
-
 
         // Sliding Expiration: 새로 발급할 때마다 Refresh Token도 갱신
         // Fixed Expiration: Access Token만 새로 발급, Refresh Token은 유지
@@ -138,11 +201,9 @@ public class AuthService {
         String newRefresh = jwtUtil.createRefreshToken();
         LocalDateTime newExp = LocalDateTime.now().plusSeconds(refreshTtlSec);
 
-        savedToken.update(newRefresh, newExp);
-        refreshTokenRepository.save(savedToken);
-
-        User user = userRepository.findById(userId).orElseThrow();
-        String newAccess = jwtUtil.createAccessToken(user.getId(), user.getEmail(), user.getUserRole().name());
+        // 저장된 토큰 일치/만료 확인 후 조건부 UPDATE 로 교체 (캐시 히트 시 DB 는 UPDATE 한 번)
+        RefreshSession session = refreshTokenStore.rotate(userId, requestRefreshToken, newRefresh, newExp);
+        String newAccess = jwtUtil.createAccessToken(session.userId(), session.email(), session.userRole(), session.tokenVersion());
 
         return new SigninResponse(newAccess, newRefresh);
 
@@ -151,17 +212,23 @@ public class AuthService {
 
     //탈취 의심 토큰을 강제 차단하는 메서드(관리자용)
     public void blacklistCompromisedToken(String token, Long userId) {
-        long expiration = jwtUtil.getExpiration(token);
+        long expiresAt = jwtUtil.getExpiresAt(token);
         tokenBlacklistRepository.save(
-                new TokenBlacklist(token, expiration, userId, BlacklistReason.COMPROMISED)
+                new TokenBlacklist(TokenDigest.sha256Hex(token), expiresAt, userId, BlacklistReason.COMPROMISED)
         );
+        tokenBlacklistCache.revoke(token, expiresAt);
     }
 
 
-    public void invalidateUserTokens(Long userId, String accessToken) {
-        refreshTokenRepository.deleteById(userId);
-        long expiration = jwtUtil.getExpiration(accessToken);
-        tokenBlacklistRepository.save(new TokenBlacklist(accessToken, expiration, userId, BlacklistReason.PASSWORD_CHANGED));
+    // 사용자의 모든 토큰 무효화: 토큰 세대(epoch)만 올리면 이전 액세스 토큰은 필터에서 거부된다
+    @Transactional
+    public void invalidateUserTokens(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+        user.increaseTokenVersion();
+
+        refreshTokenStore.revokeAll(userId);
+        tokenEpochCache.updateAfterCommit(userId, user.getTokenVersion());
     }
 
 
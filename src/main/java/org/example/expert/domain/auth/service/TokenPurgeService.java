@@ -0,0 +1,135 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.dto.response.TokenPurgeReport;
+import org.example.expert.domain.auth.entity.TokenBlacklist;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.auth.repository.TokenBlacklistRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 만료 토큰을 작은 트랜잭션 단위(청크)로 나눠 삭제
+// 리프레시 토큰: 만료 컬럼 인덱스로 대상 PK 를 고른 뒤 IN 절 DELETE 한 번으로 지운다
+// 블랙리스트: 만료 버킷 안에서 같은 방식으로 청크 단위로 지운다 (폐기가 몰린 버킷도 한 문장이 길어지지 않도록)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenPurgeService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${auth.purge.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${auth.purge.pause-ms:100}")
+    private long pauseMillis;
+
+    // 이 노드에서 마지막으로 실행한 정리 결과 (관리자 API 로 조회)
+    private volatile List<TokenPurgeReport> lastReports = List.of();
+
+    public List<TokenPurgeReport> purgeExpired() {
+        List<TokenPurgeReport> reports = List.of(purgeRefreshTokens(), purgeBlacklistBuckets());
+        lastReports = reports;
+        return reports;
+    }
+
+    public List<TokenPurgeReport> getLastReports() {
+        return lastReports;
+    }
+
+    private TokenPurgeReport purgeRefreshTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long start = System.nanoTime();
+        long rows = 0;
+        int chunks = 0;
+        long maxTransactionNanos = 0;
+
+        while (true) {
+            long txStart = System.nanoTime();
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<String> digests = refreshTokenRepository.findExpiredDigests(now, chunk);
+                return digests.isEmpty() ? 0 : refreshTokenRepository.deleteAllByTokenDigestIn(digests);
+            });
+            maxTransactionNanos = Math.max(maxTransactionNanos, System.nanoTime() - txStart);
+
+            int count = deleted == null ? 0 : deleted;
+            rows += count;
+            if (count == 0) {
+                break;
+            }
+            chunks++;
+            if (count < chunkSize || !pause()) {
+                break;
+            }
+        }
+        return report("refresh_token", rows, chunks, start, maxTransactionNanos);
+    }
+
+    // 블랙리스트는 만료 시간 버킷 순서로 삭제 (현재 버킷 이전 = 전부 만료)
+    private TokenPurgeReport purgeBlacklistBuckets() {
+        long currentBucket = TokenBlacklist.bucketOf(System.currentTimeMillis());
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long start = System.nanoTime();
+        long rows = 0;
+        int chunks = 0;
+        long maxTransactionNanos = 0;
+
+        buckets:
+        for (Long bucket : tokenBlacklistRepository.findBucketsBefore(currentBucket)) {
+            while (true) {
+                long txStart = System.nanoTime();
+                Integer deleted = transactionTemplate.execute(status -> {
+                    List<String> digests = tokenBlacklistRepository.findDigestsInBucket(bucket, chunk);
+                    return digests.isEmpty() ? 0 : tokenBlacklistRepository.deleteAllByTokenDigestIn(digests);
+                });
+                maxTransactionNanos = Math.max(maxTransactionNanos, System.nanoTime() - txStart);
+
+                int count = deleted == null ? 0 : deleted;
+                rows += count;
+                if (count == 0) {
+                    break;
+                }
+                chunks++;
+                if (!pause()) {
+                    break buckets;
+                }
+                if (count < chunkSize) {
+                    break;
+                }
+            }
+        }
+        return report("token_blacklist", rows, chunks, start, maxTransactionNanos);
+    }
+
+    private TokenPurgeReport report(String table, long rows, int chunks, long startNanos, long maxTransactionNanos) {
+        TokenPurgeReport report = TokenPurgeReport.of(table, rows, chunks, System.nanoTime() - startNanos, maxTransactionNanos);
+        log.info("만료 토큰 정리: table={} rows={} chunks={} elapsed={}ms rows/sec={} maxTx={}ms",
+                report.getTable(), report.getRows(), report.getChunks(), report.getElapsedMillis(),
+                report.getRowsPerSecond(), report.getMaxTransactionMillis());
+        return report;
+    }
+
+    // 청크 사이 대기로 잠금 점유 시간을 제한
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -6,13 +6,12 @@ import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
 import org.example.expert.security.userdetails.UserPrincipal;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
@@ -28,8 +27,13 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(principal.getId(),todoId, commentSaveRequest));
     }
 
+    // 첫 페이지는 cursor 없이 요청하고 이후에는 응답의 nextCursor 를 그대로 넘긴다
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<CursorSliceResponse<CommentResponse>> getComments(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getComments(todoId, cursor, size));
     }
 }
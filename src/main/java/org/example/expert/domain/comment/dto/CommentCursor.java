@@ -0,0 +1,35 @@
+package org.example.expert.domain.comment.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 댓글 목록 커서, 마지막으로 내려준 댓글의 (todoId, id) 를 클라이언트가 해석할 수 없는 문자열로 감싼다
+// todoId 를 함께 담아 다른 할일의 커서를 넘기면 거절한다
+public record CommentCursor(long todoId, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = Long.toString(todoId) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor, long todoId) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            CommentCursor decoded = new CommentCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+            if (decoded.todoId() != todoId) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+            return decoded;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
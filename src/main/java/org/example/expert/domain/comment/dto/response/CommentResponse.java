@@ -15,4 +15,9 @@ public class CommentResponse {
         this.contents = contents;
         this.user = user;
     }
+
+    // JPQL 생성자 표현식용
+    public CommentResponse(Long id, String contents, Long userId, String email) {
+        this(id, contents, new UserResponse(userId, email));
+    }
 }
@@ -1,7 +1,10 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -9,6 +12,29 @@ import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 엔티티 대신 응답에 필요한 컬럼만 DTO 로 바로 조회 (영속성 컨텍스트/스냅샷 없음)
+    String COMMENT_RESPONSE = "SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(" +
+            "c.id, c.contents, u.id, u.email) FROM Comment c JOIN c.user u ";
+
+    // 키셋 페이지네이션: (todo_id, id) 인덱스를 타고 커서 다음 댓글부터 바로 읽는다 (OFFSET, COUNT 없음)
+    @Query(COMMENT_RESPONSE + "WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<CommentResponse> findFirstSliceByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Query(COMMENT_RESPONSE + "WHERE c.todo.id = :todoId AND c.id > :id ORDER BY c.id")
+    List<CommentResponse> findSliceByTodoIdAfter(@Param("todoId") Long todoId, @Param("id") Long id, Pageable pageable);
+
+    long countByTodoId(Long todoId);
+
+    // 엔티티를 읽지 않고 한 문장으로 삭제 (영속성 컨텍스트, 엔티티 리스너를 거치지 않음)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+    int deleteAllByTodoIdInBulk(@Param("todoId") Long todoId);
+
+    // JPQL DELETE 는 LIMIT 을 지원하지 않으므로 청크 삭제는 id 를 먼저 읽어 IN 으로 지운다
+    @Query("SELECT c.id FROM Comment c WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteAllByIdInBulk(@Param("ids") List<Long> ids);
 }
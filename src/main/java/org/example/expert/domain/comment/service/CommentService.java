@@ -1,27 +1,32 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.CommentCursor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
@@ -45,20 +50,29 @@ public class CommentService {
         );
     }
 
+    // 댓글은 오래된 순(id 오름차순)으로 size 건씩 읽는다, 한 건 더 읽어서 다음 페이지 존재 여부를 판단
     @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+    public CursorSliceResponse<CommentResponse> getComments(long todoId, String cursor, int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new InvalidRequestException("size 는 1 ~ " + MAX_SLICE_SIZE + " 사이여야 합니다.");
+        }
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<CommentResponse> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findFirstSliceByTodoId(todoId, limit);
+        } else {
+            CommentCursor after = CommentCursor.decode(cursor, todoId);
+            comments = commentRepository.findSliceByTodoIdAfter(todoId, after.id(), limit);
+        }
+
+        boolean hasNext = comments.size() > size;
+        List<CommentResponse> content = hasNext ? comments.subList(0, size) : comments;
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = new CommentCursor(todoId, content.get(content.size() - 1).getId()).encode();
         }
-        return dtoList;
+        return new CursorSliceResponse<>(content, nextCursor);
     }
 }
@@ -0,0 +1,5 @@
+package org.example.expert.domain.common.count;
+
+// approximate 가 true 면 지금 이 순간의 정확한 개수가 아닐 수 있다
+public record CountResult(long total, boolean approximate) {
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.common.count;
+
+public enum CountStrategy {
+    EXACT,       // 매 요청 COUNT(*)
+    CACHED,      // TTL 동안 캐시한 COUNT(*) 결과, 만료되면 한 요청만 다시 센다
+    INCREMENTAL  // 처음 한 번 세고 이후에는 insert/delete 시점에 증감
+}
@@ -0,0 +1,117 @@
+package org.example.expert.domain.common.count;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 목록 API 의 전체 개수 계산기, 엔드포인트마다 CountStrategy 를 골라 쓴다
+// 큰 테이블에서는 페이지 조회보다 COUNT(*) 가 더 비싸므로 캐시하거나 증감으로 유지한다
+@Component
+public class TotalCounter {
+
+    private final ConcurrentHashMap<String, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, IncrementalCount> incrementalCounts = new ConcurrentHashMap<>();
+
+    @Value("${count.cache.ttl-ms:30000}")
+    private long cacheTtlMillis;
+
+    // 증감 누락(롤백, 벌크 삭제, 다른 노드 등)을 바로잡기 위해 주기적으로 다시 센다
+    @Value("${count.incremental.resync-ms:600000}")
+    private long resyncMillis;
+
+    public CountResult count(String key, CountStrategy strategy, LongSupplier exactCount) {
+        return switch (strategy) {
+            case EXACT -> new CountResult(exactCount.getAsLong(), false);
+            case CACHED -> cachedCount(key, exactCount);
+            case INCREMENTAL -> incrementalCount(key, exactCount);
+        };
+    }
+
+    // INCREMENTAL 로 집계 중인 key 에만 반영된다
+    public void adjust(String key, long delta) {
+        IncrementalCount count = incrementalCounts.get(key);
+        if (count != null) {
+            count.value.addAndGet(delta);
+        }
+    }
+
+    public void evict(String key) {
+        cachedCounts.remove(key);
+        incrementalCounts.remove(key);
+    }
+
+    private CountResult cachedCount(String key, LongSupplier exactCount) {
+        long now = System.currentTimeMillis();
+        CachedCount current = cachedCounts.get(key);
+
+        if (current == null) {
+            long total = exactCount.getAsLong();
+            cachedCounts.put(key, new CachedCount(total, now));
+            return new CountResult(total, false);
+        }
+
+        // 만료되면 한 요청만 다시 세고, 나머지는 그동안 이전 값을 쓴다
+        if (now - current.loadedAt >= cacheTtlMillis && current.refreshing.compareAndSet(false, true)) {
+            try {
+                long total = exactCount.getAsLong();
+                cachedCounts.put(key, new CachedCount(total, now));
+                return new CountResult(total, false);
+            } catch (RuntimeException e) {
+                current.refreshing.set(false);
+                throw e;
+            }
+        }
+        return new CountResult(current.value, true);
+    }
+
+    private CountResult incrementalCount(String key, LongSupplier exactCount) {
+        long now = System.currentTimeMillis();
+        IncrementalCount current = incrementalCounts.get(key);
+
+        if (current == null) {
+            long total = exactCount.getAsLong();
+            incrementalCounts.putIfAbsent(key, new IncrementalCount(total, now));
+            return new CountResult(total, false);
+        }
+
+        if (now - current.syncedAt >= resyncMillis && current.resyncing.compareAndSet(false, true)) {
+            try {
+                long total = exactCount.getAsLong();
+                current.value.set(total);
+                current.syncedAt = now;
+                return new CountResult(total, false);
+            } finally {
+                current.resyncing.set(false);
+            }
+        }
+        return new CountResult(Math.max(0, current.value.get()), true);
+    }
+
+    private static class CachedCount {
+
+        private final long value;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CachedCount(long value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private static class IncrementalCount {
+
+        private final AtomicLong value;
+        private final AtomicBoolean resyncing = new AtomicBoolean();
+        private volatile long syncedAt;
+
+        private IncrementalCount(long value, long syncedAt) {
+            this.value = new AtomicLong(value);
+            this.syncedAt = syncedAt;
+        }
+    }
+}
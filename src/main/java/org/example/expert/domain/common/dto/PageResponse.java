@@ -0,0 +1,32 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.count.CountResult;
+
+import java.util.List;
+
+// 오프셋 기반 페이지 응답
+// approximate 가 true 면 totalElements/totalPages 가 캐시 또는 증감으로 유지된 근사치다 (hasNext 는 항상 정확)
+@Getter
+public class PageResponse<T> {
+
+    private final List<T> content;
+    private final int page;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+    private final boolean hasNext;
+    private final boolean approximate;
+
+    public PageResponse(List<T> content, int page, int size, CountResult count, boolean hasNext) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        // 근사치가 실제로 읽은 행보다 작게 나오지 않도록 보정
+        long seen = (long) (page - 1) * size + content.size() + (hasNext ? 1 : 0);
+        this.totalElements = Math.max(count.total(), seen);
+        this.totalPages = size == 0 ? 0 : (int) ((totalElements + size - 1) / size);
+        this.hasNext = hasNext;
+        this.approximate = count.approximate();
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.domain.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 여러 노드 중 한 곳에서만 배치 작업을 실행하기 위한 DB 임대(lease)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "scheduler_lease")
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false, length = 128)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    public SchedulerLease(String name, String owner, LocalDateTime lockedUntil) {
+        this.name = name;
+        this.owner = owner;
+        this.lockedUntil = lockedUntil;
+    }
+}
@@ -4,4 +4,9 @@ public class InvalidRequestException extends RuntimeException {
     public InvalidRequestException(String message) {
         super(message);
     }
+
+    // 로그인 시 가입되지 않은 이메일 (크리덴셜 스터핑 대상)
+    public InvalidRequestException(String message, boolean captureStackTrace) {
+        super(message, null, false, captureStackTrace);
+    }
 }
@@ -4,4 +4,9 @@ public class InvalidTokenException extends RuntimeException {
     public InvalidTokenException(String message) {
         super(message);
     }
+
+    // 만료/위조 토큰, 요청 필터와 재발급에서 매 요청 검증하는 경로
+    public InvalidTokenException(String message, boolean captureStackTrace) {
+        super(message, null, false, captureStackTrace);
+    }
 }
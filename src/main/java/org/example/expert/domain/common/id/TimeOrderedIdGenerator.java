@@ -0,0 +1,38 @@
+package org.example.expert.domain.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+// insert 직전에 TSID 를 채워 넣는 Hibernate ID 생성기
+// 애플리케이션에서는 PersistenceConfig 가 설정 맵(GENERATOR_SETTING)으로 넘긴 TsidGenerator 빈을 쓴다
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+    public static final String GENERATOR_SETTING = "org.example.expert.id.tsid-generator";
+
+    private final TsidGenerator tsidGenerator;
+
+    public TimeOrderedIdGenerator(TimeOrderedId config, Member member, CustomIdGeneratorCreationContext context) {
+        Object configured = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(GENERATOR_SETTING);
+        this.tsidGenerator = configured instanceof TsidGenerator generator ? generator : TsidGenerator.getDefault();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return tsidGenerator.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
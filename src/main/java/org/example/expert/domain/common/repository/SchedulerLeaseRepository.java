@@ -0,0 +1,25 @@
+package org.example.expert.domain.common.repository;
+
+import org.example.expert.domain.common.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 만료되었거나 내가 가진 임대만 가져올 수 있다
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.lockedUntil = :lockedUntil " +
+            "WHERE l.name = :name AND (l.lockedUntil < :now OR l.owner = :owner)")
+    int tryAcquire(@Param("name") String name,
+                   @Param("owner") String owner,
+                   @Param("now") LocalDateTime now,
+                   @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.lockedUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.common.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.entity.SchedulerLease;
+import org.example.expert.domain.common.repository.SchedulerLeaseRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String owner = resolveOwner();
+
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(duration);
+        try {
+            Boolean acquired = transactionTemplate.execute(status -> {
+                if (schedulerLeaseRepository.tryAcquire(name, owner, now, lockedUntil) > 0) {
+                    return true;
+                }
+                if (schedulerLeaseRepository.existsById(name)) {
+                    return false;
+                }
+                schedulerLeaseRepository.saveAndFlush(new SchedulerLease(name, owner, lockedUntil));
+                return true;
+            });
+            return Boolean.TRUE.equals(acquired);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 다른 노드가 먼저 생성
+            log.debug("lease 선점 실패: name={}", name);
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        transactionTemplate.executeWithoutResult(status ->
+                schedulerLeaseRepository.release(name, owner, LocalDateTime.now()));
+    }
+
+    private static String resolveOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID();
+    }
+}
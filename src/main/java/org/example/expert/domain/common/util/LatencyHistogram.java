@@ -0,0 +1,50 @@
+package org.example.expert.domain.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 2의 거듭제곱 마이크로초 구간으로 나눈 지연시간 히스토그램 (락 없음)
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 24; // 1us ~ 2^23us(약 8초) 이상
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalMicros = new LongAdder();
+
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        int bucket = micros == 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        counts.incrementAndGet(bucket);
+        totalMicros.add(micros);
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        long mean = total == 0 ? 0 : totalMicros.sum() / total;
+        return new Snapshot(total, mean, percentile(copy, total, 0.5), percentile(copy, total, 0.99), copy);
+    }
+
+    // 해당 백분위가 속한 구간의 상한값(us)
+    private static long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= threshold) {
+                return 1L << i;
+            }
+        }
+        return 1L << (counts.length - 1);
+    }
+
+    public record Snapshot(long count, long meanMicros, long p50Micros, long p99Micros, long[] bucketCounts) {
+    }
+}
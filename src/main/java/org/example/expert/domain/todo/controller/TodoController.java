@@ -1,22 +1,40 @@
 package org.example.expert.domain.todo.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoBatchService;
+import org.example.expert.domain.todo.service.TodoDeleteService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.security.userdetails.UserPrincipal;
-import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final TodoService todoService;
+    private final TodoBatchService todoBatchService;
+    private final TodoDeleteService todoDeleteService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +44,61 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(principal.getId(), todoSaveRequest));
     }
 
+    // 결과는 한 줄에 한 건씩(NDJSON) 청크가 커밋될 때마다 내려간다
+    @PostMapping("/todos/batch")
+    public ResponseEntity<StreamingResponseBody> saveTodos(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        TodoBatchService.BatchContext context = todoBatchService.begin(principal.getId());
+        StreamingResponseBody body = out -> todoBatchService.saveAll(
+                context, todoBatchSaveRequest.getTodos(), results -> writeLines(out, results));
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<PageResponse<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    // 커서 기반 목록, 첫 페이지는 cursor 없이 요청하고 이후에는 응답의 nextCursor 를 그대로 넘긴다
+    @GetMapping("/todos/scroll")
+    public ResponseEntity<CursorSliceResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    // 바로 지웠으면 204, 댓글이 많아 백그라운드에서 지우는 중이면 202
+    @DeleteMapping("/todos/{todoId}")
+    public ResponseEntity<Void> deleteTodo(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable long todoId
+    ) {
+        TodoDeleteService.Outcome outcome = todoDeleteService.deleteTodo(principal.getId(), todoId);
+        return outcome == TodoDeleteService.Outcome.DELETED
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.accepted().build();
+    }
+
+    private void writeLines(OutputStream out, List<TodoBatchSaveResponse> results) {
+        try {
+            for (TodoBatchSaveResponse result : results) {
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
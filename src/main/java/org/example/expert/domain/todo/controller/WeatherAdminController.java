@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.client.transport.ResilientHttpTransport;
+import org.example.expert.client.transport.TransportStats;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 일정 생성 시 조회하는 날씨 API 의 전송 계층 상태 (서킷 상태, 벌크헤드 여유, 헤징 횟수)
+@RestController
+@RequiredArgsConstructor
+public class WeatherAdminController {
+
+    private final ResilientHttpTransport weatherTransport;
+
+    @GetMapping("/admin/weather/transport/stats")
+    public ResponseEntity<TransportStats> getWeatherTransportStats() {
+        return ResponseEntity.ok(weatherTransport.stats());
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+// 일괄 저장 결과 한 건, index 는 요청 목록에서의 위치
+@Getter
+public class TodoBatchSaveResponse {
+
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    private final int index;
+    private final Long id;
+    private final String status;
+    private final String message;
+
+    private TodoBatchSaveResponse(int index, Long id, String status, String message) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.message = message;
+    }
+
+    public static TodoBatchSaveResponse created(int index, Long id) {
+        return new TodoBatchSaveResponse(index, id, CREATED, null);
+    }
+
+    public static TodoBatchSaveResponse failed(int index, String message) {
+        return new TodoBatchSaveResponse(index, null, FAILED, message);
+    }
+}
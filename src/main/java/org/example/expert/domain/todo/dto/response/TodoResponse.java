@@ -25,4 +25,10 @@ public class TodoResponse {
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    // JPQL 생성자 표현식용, 작성자 컬럼을 평평하게 받는다
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String email,
+                        LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, new UserResponse(userId, email), createdAt, modifiedAt);
+    }
 }
@@ -5,7 +5,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.common.id.TimeOrderedId;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.listener.TodoCountListener;
 import org.example.expert.domain.user.entity.User;
 
 import java.util.ArrayList;
@@ -14,10 +16,11 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@EntityListeners(TodoCountListener.class)
+@Table(name = "todos", indexes = @Index(name = "idx_todos_modified_at_id", columnList = "modifiedAt DESC, id DESC"))
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeOrderedId
     private Long id;
     private String title;
     private String contents;
@@ -27,7 +30,8 @@ public class Todo extends Timestamped {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 삭제는 TodoDeleteService 가 벌크 DELETE 로 처리한다 (CascadeType.REMOVE 는 댓글을 전부 읽어 한 건씩 지운다)
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
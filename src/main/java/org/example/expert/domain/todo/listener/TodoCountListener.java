@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.count.TotalCounter;
+import org.example.expert.domain.common.util.AfterCommit;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.stereotype.Component;
+
+// 할일 insert/delete 를 커밋 이후 전체 개수에 반영 (INCREMENTAL 전략용)
+// JPQL 벌크 삭제는 엔티티 리스너를 거치지 않으므로 호출하는 쪽에서 직접 adjust 해야 한다
+@Component
+@RequiredArgsConstructor
+public class TodoCountListener {
+
+    public static final String COUNT_KEY = "todos";
+
+    private final TotalCounter totalCounter;
+
+    @PostPersist
+    public void afterPersist(Todo todo) {
+        AfterCommit.run(() -> totalCounter.adjust(COUNT_KEY, 1));
+    }
+
+    @PostRemove
+    public void afterRemove(Todo todo) {
+        AfterCommit.run(() -> totalCounter.adjust(COUNT_KEY, -1));
+    }
+}
@@ -1,21 +1,50 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @EntityGraph(attributePaths = {"user"})
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 목록/단건 조회는 엔티티 대신 응답에 필요한 컬럼만 DTO 로 바로 조회 (영속성 컨텍스트/스냅샷 없음)
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) FROM Todo t JOIN t.user u ";
+
+    // Slice 로 받아 COUNT 쿼리를 생략한다, 전체 개수는 TotalCounter 가 따로 계산
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findResponsesOrderByModifiedAtDesc(Pageable pageable);
+
+    @Query(TODO_RESPONSE + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findResponseById(@Param("todoId") Long todoId);
+
+    // 키셋 페이지네이션: (modifiedAt, id) 내림차순 인덱스를 타고 커서 위치부터 바로 읽는다 (OFFSET, COUNT 없음)
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstSlice(Pageable pageable);
+
+    @Query(TODO_RESPONSE +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findSliceAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
 
     @EntityGraph(attributePaths = {"user"})
     Optional<Todo> findById(Long todoId);
 
     int countById(Long todoId);
+
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findWriterIdById(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id = :todoId")
+    int deleteByIdInBulk(@Param("todoId") Long todoId);
 }
@@ -0,0 +1,84 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 할일 일괄 저장
+// 작성자 조회와 날씨 조회는 배치당 한 번만 하고, 저장은 청크마다 짧은 트랜잭션으로 나눠 JDBC 배치 insert 로 내보낸다
+// 청크 하나가 실패해도 그 청크만 FAILED 로 돌려주고 다음 청크를 계속 저장한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoBatchService {
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final WeatherCache weatherCache;
+    private final TransactionTemplate transactionTemplate;
+
+    // hibernate.batch-size 의 배수로 두면 청크마다 남는 배치 없이 나간다
+    @Value("${todo.batch.chunk-size:500}")
+    private int chunkSize;
+
+    // 작성자가 없으면 응답을 쓰기 전에 예외를 던진다
+    public BatchContext begin(Long writerId) {
+        if (!userRepository.existsById(writerId)) {
+            throw new InvalidRequestException("User not found");
+        }
+        String weather = weatherCache.getTodayWeatherAsync().join(); // 타임아웃/실패 시 null (날씨 미확인으로 저장)
+        return new BatchContext(writerId, weather);
+    }
+
+    // 청크가 커밋될 때마다 그 청크의 결과를 sink 로 넘긴다, sink 가 예외를 던지면(클라이언트 연결 끊김 등) 남은 청크는 저장하지 않는다
+    public void saveAll(BatchContext context, List<TodoSaveRequest> requests, Consumer<List<TodoBatchSaveResponse>> sink) {
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            List<TodoSaveRequest> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+            sink.accept(saveChunk(context, chunk, from));
+        }
+    }
+
+    private List<TodoBatchSaveResponse> saveChunk(BatchContext context, List<TodoSaveRequest> chunk, int offset) {
+        try {
+            return transactionTemplate.execute(status -> {
+                User writer = userRepository.getReferenceById(context.writerId()); // 프록시라 select 가 나가지 않는다
+
+                List<Todo> todos = new ArrayList<>(chunk.size());
+                for (TodoSaveRequest request : chunk) {
+                    todos.add(new Todo(request.getTitle(), request.getContents(), context.weather(), writer));
+                }
+                todoRepository.saveAll(todos);
+
+                List<TodoBatchSaveResponse> results = new ArrayList<>(todos.size());
+                for (int i = 0; i < todos.size(); i++) {
+                    results.add(TodoBatchSaveResponse.created(offset + i, todos.get(i).getId()));
+                }
+                return results;
+            });
+        } catch (RuntimeException e) {
+            log.warn("할일 일괄 저장 청크 실패: offset={}, size={}, {}", offset, chunk.size(), e.getMessage());
+            List<TodoBatchSaveResponse> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(TodoBatchSaveResponse.failed(offset + i, "저장에 실패했습니다."));
+            }
+            return results;
+        }
+    }
+
+    public record BatchContext(Long writerId, String weather) {
+    }
+}
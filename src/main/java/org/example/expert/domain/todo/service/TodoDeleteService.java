@@ -0,0 +1,119 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.count.TotalCounter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.util.AfterCommit;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.listener.TodoCountListener;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 할일 삭제
+// 댓글 -> 담당자 -> 할일 순서로 벌크 DELETE 를 보내므로 댓글 수와 관계없이 문장 수가 일정하다
+// 댓글이 임계치보다 많으면 긴 트랜잭션/락을 피하려고 백그라운드에서 청크 단위로 댓글을 먼저 지운 뒤 마무리한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoDeleteService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TotalCounter totalCounter;
+
+    private final ExecutorService deleter = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "todo-delete");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Long> deleting = ConcurrentHashMap.newKeySet();
+
+    @Value("${todo.delete.async-threshold:1000}")
+    private long asyncThreshold;
+
+    @Value("${todo.delete.chunk-size:1000}")
+    private int chunkSize;
+
+    @PreDestroy
+    public void shutdown() {
+        deleter.shutdownNow();
+    }
+
+    public Outcome deleteTodo(long userId, long todoId) {
+        Outcome outcome = transactionTemplate.execute(status -> {
+            Long writerId = todoRepository.findWriterIdById(todoId)
+                    .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+            if (writerId != userId) {
+                throw new InvalidRequestException("일정을 만든 유저만 삭제할 수 있습니다.");
+            }
+
+            if (commentRepository.countByTodoId(todoId) > asyncThreshold) {
+                return Outcome.SCHEDULED;
+            }
+            deleteRows(todoId);
+            return Outcome.DELETED;
+        });
+
+        if (outcome == Outcome.SCHEDULED) {
+            schedule(todoId);
+        }
+        return outcome;
+    }
+
+    // 같은 할일에 대한 삭제가 이미 진행 중이면 다시 등록하지 않는다
+    // 중간에 실패하거나 서버가 내려가도 할일은 남아 있으므로 다시 요청하면 이어서 지운다
+    private void schedule(long todoId) {
+        if (!deleting.add(todoId)) {
+            return;
+        }
+        deleter.execute(() -> {
+            try {
+                deleteCommentsInChunks(todoId);
+                transactionTemplate.executeWithoutResult(status -> deleteRows(todoId));
+            } catch (RuntimeException e) {
+                log.warn("할일 삭제 실패: todoId={}, {}", todoId, e.getMessage());
+            } finally {
+                deleting.remove(todoId);
+            }
+        });
+    }
+
+    private void deleteCommentsInChunks(long todoId) {
+        PageRequest chunk = PageRequest.of(0, chunkSize);
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = commentRepository.findIdsByTodoId(todoId, chunk);
+                return ids.isEmpty() ? 0 : commentRepository.deleteAllByIdInBulk(ids);
+            });
+        } while (deleted == chunkSize);
+    }
+
+    // 벌크 DELETE 는 엔티티 리스너를 거치지 않으므로 전체 개수는 직접 조정한다
+    private void deleteRows(long todoId) {
+        commentRepository.deleteAllByTodoIdInBulk(todoId);
+        managerRepository.deleteAllByTodoIdInBulk(todoId);
+        if (todoRepository.deleteByIdInBulk(todoId) > 0) {
+            AfterCommit.run(() -> totalCounter.adjust(TodoCountListener.COUNT_KEY, -1));
+        }
+    }
+
+    public enum Outcome {
+        DELETED,    // 바로 삭제됨
+        SCHEDULED   // 백그라운드에서 삭제 중
+    }
+}
@@ -1,87 +1,115 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.domain.common.count.CountResult;
+import org.example.expert.domain.common.count.CountStrategy;
+import org.example.expert.domain.common.count.TotalCounter;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
+import org.example.expert.domain.common.dto.PageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.listener.TodoCountListener;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
-    private final WeatherClient weatherClient;
+    private final WeatherCache weatherCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TotalCounter totalCounter;
 
-    @Transactional
-    public TodoSaveResponse saveTodo(Long writerId, TodoSaveRequest todoSaveRequest) {
+    @Value("${todo.list.count-strategy:CACHED}")
+    private CountStrategy todoCountStrategy;
 
-        User user = userRepository.findById(writerId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
+    // 날씨 조회는 트랜잭션 밖에서 먼저 끝내고, 커넥션은 사용자 조회와 저장에만 짧게 잡는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoSaveResponse saveTodo(Long writerId, TodoSaveRequest todoSaveRequest) {
 
+        String weather = weatherCache.getTodayWeatherAsync().join(); // 타임아웃/실패 시 null (날씨 미확인으로 저장)
 
-        String weather = weatherClient.getTodayWeather();
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(writerId)
+                    .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        Todo newTodo = new Todo(
-                todoSaveRequest.getTitle(),
-                todoSaveRequest.getContents(),
-                weather,
-                user
-        );
-        Todo savedTodo = todoRepository.save(newTodo);
+            Todo newTodo = new Todo(
+                    todoSaveRequest.getTitle(),
+                    todoSaveRequest.getContents(),
+                    weather,
+                    user
+            );
+            Todo savedTodo = todoRepository.save(newTodo);
 
-        return new TodoSaveResponse(
-                savedTodo.getId(),
-                savedTodo.getTitle(),
-                savedTodo.getContents(),
-                weather,
-                new UserResponse(user.getId(), user.getEmail())
-        );
+            return new TodoSaveResponse(
+                    savedTodo.getId(),
+                    savedTodo.getTitle(),
+                    savedTodo.getContents(),
+                    weather,
+                    new UserResponse(user.getId(), user.getEmail())
+            );
+        });
     }
 
-    public Page<TodoResponse> getTodos(int page, int size) {
+    public PageResponse<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        Slice<TodoResponse> todos = todoRepository.findResponsesOrderByModifiedAtDesc(pageable);
+        CountResult count = totalCounter.count(TodoCountListener.COUNT_KEY, todoCountStrategy, todoRepository::count);
+
+        return new PageResponse<>(todos.getContent(), page, size, count, todos.hasNext());
+    }
+
+    // 커서 이후 size 건만 읽는다, 한 건 더 읽어서 다음 페이지 존재 여부를 판단
+    public CursorSliceResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new InvalidRequestException("size 는 1 ~ " + MAX_SLICE_SIZE + " 사이여야 합니다.");
+        }
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<TodoResponse> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findFirstSlice(limit);
+        } else {
+            TodoCursor after = TodoCursor.decode(cursor);
+            todos = todoRepository.findSliceAfter(after.modifiedAt(), after.id(), limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> content = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = content.get(content.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new CursorSliceResponse<>(content, nextCursor);
     }
 
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
+        return todoRepository.findResponseById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        User user = todo.getUser();
-
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
     }
 }
@@ -23,9 +23,8 @@ public class UserController {
 
     @PutMapping("/users")
     public void changePassword(@AuthenticationPrincipal UserPrincipal principal,
-                               @RequestHeader("Authorization") String accessToken,
                                @RequestBody @Valid UserChangePasswordRequest ChangePasswordRequest
     ) {
-        userService.changePassword(principal.getId(), accessToken, ChangePasswordRequest);
+        userService.changePassword(principal.getId(), ChangePasswordRequest);
     }
 }
@@ -4,21 +4,29 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.common.id.TimeOrderedId;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_modified_at", columnList = "modifiedAt"),
+        @Index(name = "idx_users_created_at", columnList = "createdAt")
+})
 public class User extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeOrderedId
     private Long id;
     @Column(unique = true)
     private String email;
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
+    // 증가시키면 이전에 발급된 모든 액세스 토큰이 무효화된다
+    @ColumnDefault("0")
+    private long tokenVersion;
 
     public User(String email, String password, UserRole userRole) {
         this.email = email;
@@ -35,4 +43,8 @@ public class User extends Timestamped {
     public void updateRole(UserRole userRole) {
         this.userRole = userRole;
     }
+
+    public void increaseTokenVersion() {
+        this.tokenVersion++;
+    }
 }
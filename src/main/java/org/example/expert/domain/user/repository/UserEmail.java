@@ -0,0 +1,8 @@
+package org.example.expert.domain.user.repository;
+
+public interface UserEmail {
+
+    Long getId();
+
+    String getEmail();
+}
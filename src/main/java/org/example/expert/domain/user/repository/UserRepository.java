@@ -1,11 +1,38 @@
 package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    List<UserTokenVersion> findAllByTokenVersionGreaterThan(long tokenVersion);
+
+    // 토큰 버전 증가는 엔티티 변경으로 처리되므로 modifiedAt 으로 변경분만 골라낸다
+    @Query("SELECT u.id AS id, u.tokenVersion AS tokenVersion FROM User u " +
+            "WHERE u.tokenVersion > 0 AND u.modifiedAt >= :since")
+    List<UserTokenVersion> findTokenVersionsModifiedSince(@Param("since") LocalDateTime since);
+
+    // 이메일 존재 필터 sync 용, 다른 노드에서 가입한 이메일을 createdAt 으로 골라낸다
+    @Query("SELECT u.email FROM User u WHERE u.createdAt >= :since")
+    List<String> findEmailsCreatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<UserEmail> findEmailsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 해시가 그 사이 바뀌지 않은 경우에만 교체 (재해싱용, 호출하는 쪽 트랜잭션에서 실행)
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
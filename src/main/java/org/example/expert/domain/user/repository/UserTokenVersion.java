@@ -0,0 +1,8 @@
+package org.example.expert.domain.user.repository;
+
+public interface UserTokenVersion {
+
+    Long getId();
+
+    long getTokenVersion();
+}
@@ -1,6 +1,8 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.cache.RefreshTokenStore;
+import org.example.expert.domain.auth.cache.TokenEpochCache;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
@@ -14,10 +16,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenEpochCache tokenEpochCache;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        // 이전 권한이 담긴 액세스 토큰을 거부하고, 다른 노드의 재발급 캐시도 epoch 로 무효화
+        user.increaseTokenVersion();
+        tokenEpochCache.updateAfterCommit(userId, user.getTokenVersion());
+        // 이 노드의 재발급 캐시에 담긴 권한 정보 무효화
+        refreshTokenStore.evict(userId);
     }
 }
@@ -9,7 +9,9 @@ import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +20,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthService authService;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(readOnly = true)
     public UserResponse getUser(long userId) {
@@ -25,24 +28,33 @@ public class UserService {
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
-    public void changePassword(long userId, String accessToken,UserChangePasswordRequest userChangePasswordRequest) {
+    // 비밀번호 비교/해싱(bcrypt)은 트랜잭션 밖에서 끝내고, 저장과 토큰 무효화만 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
+        String oldPassword = user.getPassword();
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
+        // 앞의 비교에서 예외로 빠져나가면 두 번째 해싱은 아예 제출하지 않는다
+        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), oldPassword)) {
             throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), oldPassword)) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String newPassword = passwordEncoder.encode(userChangePasswordRequest.getNewPassword());
 
+        transactionTemplate.executeWithoutResult(status -> {
+            // 검증 이후 다른 요청이 비밀번호를 바꿨다면 덮어쓰지 않는다
+            if (userRepository.updatePasswordIfUnchanged(userId, oldPassword, newPassword) == 0) {
+                throw new InvalidRequestException("비밀번호가 그 사이 변경되었습니다. 다시 시도해 주세요.");
+            }
 
-        //  기존 토큰 무효화 처리
-        authService.invalidateUserTokens(userId,accessToken);
+            //  기존 토큰 무효화 처리
+            authService.invalidateUserTokens(userId);
+        });
     }
 }
@@ -1,6 +1,7 @@
 package org.example.expert.security.config;
 
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.security.exception.JwtAccessDeniedHandler;
 import org.example.expert.security.exception.JwtAuthenticationEntryPoint;
@@ -33,6 +34,8 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(StreamingResponseBody)이 끝날 때의 ASYNC 디스패치, 원 요청에서 이미 인가를 거쳤다
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
@@ -1,33 +1,33 @@
 package org.example.expert.security.exception;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.MediaType;
+import org.example.expert.config.ErrorResponseWriter;
+import org.example.expert.config.ErrorResponseWriter.ErrorTemplate;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 import org.springframework.security.access.AccessDeniedException;
 
 @Component
 public class JwtAccessDeniedHandler implements AccessDeniedHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ErrorTemplate forbidden;
+
+    public JwtAccessDeniedHandler(ErrorResponseWriter errorResponseWriter) {
+        this.errorResponseWriter = errorResponseWriter;
+        // 메시지가 고정이므로 본문 전체를 미리 인코딩
+        this.forbidden = errorResponseWriter.template(HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+    }
+
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException)
             throws IOException, ServletException {
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-
-        Map<String, Object> body = new HashMap<>();
-        body.put("status", "FORBIDDEN");
-        body.put("code", 403);
-        body.put("message", "접근 권한이 없습니다.");
-
-        new ObjectMapper().writeValue(response.getOutputStream(), body);
+        errorResponseWriter.write(response, forbidden);
     }
 
 }
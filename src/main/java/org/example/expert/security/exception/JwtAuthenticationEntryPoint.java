@@ -1,33 +1,27 @@
 package org.example.expert.security.exception;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.context.annotation.Bean;
-import org.springframework.http.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.ErrorResponseWriter;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import org.springframework.security.core.AuthenticationException;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 @Component
+@RequiredArgsConstructor
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException)
         throws IOException, ServletException{
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        Map<String, Object> body = new HashMap<>();
-        body.put("status", "UNAUTHORIZED");
-        body.put("code", 401);
-        body.put("message", authException.getMessage());
-        new ObjectMapper().writeValue(response.getOutputStream(), body);
-
+        errorResponseWriter.write(response, HttpStatus.UNAUTHORIZED, authException.getMessage());
     }
 
 }
@@ -1,17 +1,20 @@
 package org.example.expert.security.filter;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.expert.domain.auth.repository.TokenBlacklistRepository;
+import org.example.expert.config.ErrorResponseWriter;
+import org.example.expert.config.ErrorResponseWriter.ErrorTemplate;
+import org.example.expert.domain.auth.cache.TokenBlacklistCache;
+import org.example.expert.domain.auth.cache.TokenEpochCache;
 import org.example.expert.security.userdetails.UserPrincipal;
 import org.example.expert.security.util.JwtUtil;
+import org.example.expert.security.util.VerifiedToken;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -23,11 +26,30 @@ import java.io.IOException;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final TokenBlacklistCache tokenBlacklistCache;
+    private final TokenEpochCache tokenEpochCache;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    // 401 응답 본문은 메시지가 고정이므로 미리 인코딩해 둔다
+    private final ErrorTemplate loggedOut;
+    private final ErrorTemplate revoked;
+    private final ErrorTemplate expired;
+    private final ErrorTemplate invalid;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, TokenBlacklistCache tokenBlacklistCache,
+                                   TokenEpochCache tokenEpochCache, ErrorResponseWriter errorResponseWriter) {
+        this.jwtUtil = jwtUtil;
+        this.tokenBlacklistCache = tokenBlacklistCache;
+        this.tokenEpochCache = tokenEpochCache;
+        this.errorResponseWriter = errorResponseWriter;
+        this.loggedOut = errorResponseWriter.template(HttpStatus.UNAUTHORIZED, "이미 로그아웃된 토큰입니다.");
+        this.revoked = errorResponseWriter.template(HttpStatus.UNAUTHORIZED, "무효화된 토큰입니다.");
+        this.expired = errorResponseWriter.template(HttpStatus.UNAUTHORIZED, "ACCESS_EXPIRED");
+        this.invalid = errorResponseWriter.template(HttpStatus.UNAUTHORIZED, "INVALID_TOKEN");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -41,22 +63,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = bearer.substring(7);
         try{
 
-            if (tokenBlacklistRepository.existsByToken(token)) {
-                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "이미 로그아웃된 토큰입니다.");
+            if (tokenBlacklistCache.isRevoked(token)) {
+                errorResponseWriter.write(response, loggedOut);
                 return;
             }
 
-            // 서명 및 만료 검증
-            jwtUtil.validateToken(token); // 내부에서 ExpiredJwtException 또는 JwtException 발생 가능
-
-            // 클레임 추출
-            Claims claims = jwtUtil.extractClaims(token);
+            // 서명 및 만료 검증 + 클레임 추출 (한 번의 파싱, 검증 결과 캐시)
+            VerifiedToken verified = jwtUtil.verifyAccessToken(token); // 내부에서 ExpiredJwtException 또는 JwtException 발생 가능
+            UserPrincipal principal = verified.principal();
 
-            UserPrincipal principal = UserPrincipal.of(
-                    Long.parseLong(claims.getSubject()),
-                    claims.get("email", String.class),
-                    claims.get("userRole", String.class)
-            );
+            // 사용자 단위 일괄 무효화 (비밀번호 변경 등) 여부
+            if (tokenEpochCache.isRevoked(principal.getId(), verified.tokenVersion())) {
+                errorResponseWriter.write(response, revoked);
+                return;
+            }
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
@@ -68,10 +88,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             SecurityContextHolder.getContext().setAuthentication(authentication);
     }
         catch (ExpiredJwtException ex) {
-            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "ACCESS_EXPIRED");
+            errorResponseWriter.write(response, expired);
             return;
         } catch (JwtException ex) {
-            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "INVALID_TOKEN");
+            errorResponseWriter.write(response, invalid);
             return;
         }catch (Exception ex){
             log.debug("JWT 처리 실패: {}", ex.getMessage());
@@ -4,8 +4,10 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import org.example.expert.domain.common.exception.InvalidTokenException;
+import org.example.expert.security.userdetails.UserPrincipal;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.util.Pair;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -13,6 +15,9 @@ import java.security.Key;
 import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 @Component
@@ -26,18 +31,30 @@ public class JwtUtil {
     private String secretKey;
     private Key key;
 
+    // 서명 검증이 끝난 액세스 토큰 캐시 최대 크기
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
+    // JwtParser 는 불변/thread-safe 이므로 한 번만 생성해 재사용
+    private JwtParser parser;
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
-    public String createAccessToken(Long userId, String email, String role) {
+    public String createAccessToken(Long userId, String email, String role, long tokenVersion) {
         Date now = new Date();
         return BEARER_PREFIX + Jwts.builder()
                 .setSubject(String.valueOf(userId))
                 .claim("email", email)
                 .claim("userRole", role)
+                .claim("ver", tokenVersion)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_TIME))
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -47,6 +64,7 @@ public class JwtUtil {
     public String createRefreshToken() {
         Date now = new Date();
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 같은 시각에 발급된 토큰도 서로 다르도록
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_TIME))
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -56,15 +74,11 @@ public class JwtUtil {
 
     public Claims extractClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
-            throw new InvalidTokenException("토큰이 만료되었습니다.");
+            throw new InvalidTokenException("토큰이 만료되었습니다.", false);
         } catch (UnsupportedJwtException | MalformedJwtException | SignatureException | IllegalArgumentException e) {
-            throw new InvalidTokenException("유효하지 않은 토큰입니다.");
+            throw new InvalidTokenException("유효하지 않은 토큰입니다.", false);
         }
     }
 
@@ -80,12 +94,14 @@ public class JwtUtil {
         return expiration.getTime() - System.currentTimeMillis();
     }
 
+    // 만료 시각 (epoch ms)
+    public long getExpiresAt(String token) {
+        return extractClaims(token).getExpiration().getTime();
+    }
+
     public void validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token); // 서명, 만료 포함 검증
+            parser.parseClaimsJws(token); // 서명, 만료 포함 검증
         } catch (ExpiredJwtException e) {
             throw e; // 상위로 던짐
         } catch (JwtException | IllegalArgumentException e) {
@@ -93,6 +109,52 @@ public class JwtUtil {
         }
     }
 
+    // 액세스 토큰 검증 + 클레임 추출을 한 번의 파싱으로 처리
+    // 같은 토큰은 만료 전까지 digest 키로 캐시해 서명 재검증을 생략한다
+    public VerifiedToken verifyAccessToken(String token) {
+        String digest = TokenDigest.sha256Hex(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedTokens.remove(digest);
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody(); // ExpiredJwtException, JwtException 상위로 전달
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new MalformedJwtException("액세스 토큰 형식이 아닙니다.");
+        }
+
+        Number tokenVersion = claims.get("ver", Number.class);
+        VerifiedToken verified = new VerifiedToken(
+                UserPrincipal.of(
+                        Long.parseLong(claims.getSubject()),
+                        claims.get("email", String.class),
+                        claims.get("userRole", String.class)
+                ),
+                tokenVersion == null ? 0L : tokenVersion.longValue(),
+                claims.getExpiration().getTime()
+        );
+
+        // 가득 차면 캐시하지 않고 검증 결과만 돌려준다 (만료 항목 정리는 스케줄러가 요청 경로 밖에서 한다)
+        if (verifiedTokens.size() < verifiedCacheMaxSize) {
+            verifiedTokens.put(digest, verified);
+        }
+        return verified;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.verified-cache.evict-interval-ms:60000}")
+    public void evictExpiredVerifiedTokens() {
+        evictExpiredVerifiedTokens(System.currentTimeMillis());
+    }
+
+    public void evictExpiredVerifiedTokens(long nowMillis) {
+        verifiedTokens.values().removeIf(verified -> verified.isExpired(nowMillis));
+    }
+
     public long getRefreshTokenTtl() {
         // 예: 14일을 초 단위로 반환 (14일 * 24시간 * 60분 * 60초)
         return 14 * 24 * 60 * 60L;
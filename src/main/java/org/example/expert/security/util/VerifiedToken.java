@@ -0,0 +1,11 @@
+package org.example.expert.security.util;
+
+import org.example.expert.security.userdetails.UserPrincipal;
+
+// 서명 검증을 마친 액세스 토큰의 불변 스냅샷
+public record VerifiedToken(UserPrincipal principal, long tokenVersion, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
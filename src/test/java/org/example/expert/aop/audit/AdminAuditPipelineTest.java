@@ -0,0 +1,70 @@
+package org.example.expert.aop.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditPipelineTest {
+
+    @Test
+    void 발행_이후_인자나_응답이_바뀌어도_발행_시점의_본문이_기록된다() throws InterruptedException {
+        // given
+        List<AdminAuditRecord> written = new CopyOnWriteArrayList<>();
+        AdminAuditPipeline pipeline = pipeline(written::addAll);
+        List<String> args = new ArrayList<>(List.of("before"));
+        List<String> result = new ArrayList<>(List.of("ok"));
+
+        // when
+        pipeline.publish(1L, "PATCH", "/admin/users/1", 0, 3, new Object[]{args}, result, null);
+        args.set(0, "after"); // 요청이 끝난 뒤 같은 객체가 재사용/변경되는 상황
+        result.clear();
+        pipeline.stop(); // 남은 슬롯을 모두 비운 뒤 종료
+
+        // then
+        assertEquals(1, written.size());
+        assertEquals("[[\"before\"]]", written.get(0).requestBody());
+        assertEquals("[\"ok\"]", written.get(0).responseBody());
+    }
+
+    @Test
+    void 불변_값인_인자와_응답은_소비자_스레드에서_직렬화한다() throws InterruptedException {
+        // given
+        List<AdminAuditRecord> written = new CopyOnWriteArrayList<>();
+        AdminAuditPipeline pipeline = pipeline(written::addAll);
+        Object[] args = {1L, new RoleChange("USER", "secret")};
+
+        // when
+        pipeline.publish(1L, "PATCH", "/admin/users/1", 0, 3, args, new RoleChange("ADMIN", null), null);
+        args[0] = 2L; // 인자 배열은 복사해서 넘기므로 영향 없음
+        pipeline.stop();
+
+        // then
+        assertEquals(1, written.size());
+        assertEquals("[1,{\"role\":\"USER\",\"password\":\"***\"}]", written.get(0).requestBody());
+        assertEquals("{\"role\":\"ADMIN\",\"password\":\"***\"}", written.get(0).responseBody());
+        assertEquals(2, pipeline.stats().deferredBodies());
+    }
+
+    private record RoleChange(String role, String password) {
+    }
+
+    private AdminAuditPipeline pipeline(AdminAuditSink sink) {
+        AdminAuditPipeline pipeline = new AdminAuditPipeline(new ObjectMapper(), List.of(sink));
+        ReflectionTestUtils.setField(pipeline, "bufferSize", 16);
+        ReflectionTestUtils.setField(pipeline, "batchSize", 4);
+        ReflectionTestUtils.setField(pipeline, "overflowPolicy", AuditOverflowPolicy.DROP);
+        ReflectionTestUtils.setField(pipeline, "idleWaitMillis", 1L);
+        ReflectionTestUtils.setField(pipeline, "bodyMaxBytes", 1024);
+        ReflectionTestUtils.setField(pipeline, "redactedFields", Set.of("password"));
+        ReflectionTestUtils.setField(pipeline, "bodySampleRate", 1.0);
+        pipeline.start();
+        return pipeline;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.aop.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditRingBufferTest {
+
+    @Test
+    void 버퍼가_가득_차면_발행에_실패하고_소비하면_다시_발행할_수_있다() {
+        // given
+        AdminAuditRingBuffer buffer = new AdminAuditRingBuffer(4);
+        for (int i = 0; i < buffer.capacity(); i++) {
+            long userId = i;
+            assertTrue(buffer.tryPublish(event -> event.set(userId, "GET", "/admin", 0, 0, null, null, null)));
+        }
+
+        // when
+        boolean overflow = buffer.tryPublish(event -> event.set(99L, "GET", "/admin", 0, 0, null, null, null));
+        List<Long> drained = new ArrayList<>();
+        buffer.drain(2, event -> drained.add(event.userId));
+
+        // then
+        assertFalse(overflow);
+        assertEquals(List.of(0L, 1L), drained);
+        assertEquals(buffer.capacity() - 2, buffer.depth());
+        assertTrue(buffer.tryPublish(event -> event.set(100L, "GET", "/admin", 0, 0, null, null, null)));
+    }
+}
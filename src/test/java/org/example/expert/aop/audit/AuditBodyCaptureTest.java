@@ -0,0 +1,57 @@
+package org.example.expert.aop.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditBodyCaptureTest {
+
+    private static final Set<String> REDACTED_FIELDS = Set.of("password", "oldPassword", "newPassword");
+
+    @Test
+    void 비밀번호_필드는_마스킹되어_기록된다() {
+        // given
+        AuditBodyCapture capture = new AuditBodyCapture(new ObjectMapper(), 1024, REDACTED_FIELDS, 1.0);
+        Object[] args = {1L, new UserChangePasswordRequest("Old12345", "New12345")};
+
+        // when
+        String body = capture.capture(args);
+
+        // then
+        assertEquals("[1,{\"oldPassword\":\"***\",\"newPassword\":\"***\"}]", body);
+    }
+
+    @Test
+    void 한도를_넘는_본문은_잘라내고_버퍼를_재사용한다() {
+        // given
+        AuditBodyCapture capture = new AuditBodyCapture(new ObjectMapper(), 64, REDACTED_FIELDS, 1.0);
+        String large = "가".repeat(10_000);
+
+        // when
+        String truncated = capture.capture(large);
+        String small = capture.capture("ok");
+
+        // then
+        assertTrue(truncated.endsWith(AuditBodyCapture.TRUNCATED_SUFFIX));
+        assertFalse(truncated.contains("�"));
+        assertEquals("\"ok\"", small);
+        assertEquals(1, capture.getTruncated());
+    }
+
+    @Test
+    void 샘플링에서_제외되면_본문을_기록하지_않는다() {
+        // given
+        AuditBodyCapture capture = new AuditBodyCapture(new ObjectMapper(), 1024, REDACTED_FIELDS, 0.0);
+
+        // when
+        String body = capture.capture("ignored");
+
+        // then
+        assertNull(body);
+        assertEquals(1, capture.getSkipped());
+    }
+}
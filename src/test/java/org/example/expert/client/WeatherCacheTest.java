@@ -0,0 +1,146 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WeatherCacheTest {
+
+    private static final String TODAY = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+
+    @Mock
+    private WeatherClient weatherClient;
+
+    private WeatherCache weatherCache;
+
+    @BeforeEach
+    void setUp() {
+        weatherCache = new WeatherCache(weatherClient);
+        ReflectionTestUtils.setField(weatherCache, "ttlMillis", 86_400_000L);
+        ReflectionTestUtils.setField(weatherCache, "serveStale", true);
+        ReflectionTestUtils.setField(weatherCache, "retryBackoffMillis", 0L);
+        ReflectionTestUtils.setField(weatherCache, "loadTimeoutMillis", 5_000L);
+    }
+
+    @Test
+    void 캐시가_비어_있을_때_동시_요청이_몰려도_날씨_조회는_한_번만_한다() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        given(weatherClient.fetchWeatherByDate()).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of(TODAY, "Sunny");
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(weatherCache::getTodayWeather));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("Sunny", result.get(5, TimeUnit.SECONDS));
+        }
+        verify(weatherClient, times(1)).fetchWeatherByDate();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void 갱신에_실패하면_이전_스냅샷으로_응답한다() throws Exception {
+        // given
+        given(weatherClient.fetchWeatherByDate())
+                .willReturn(Map.of(TODAY, "Sunny"))
+                .willThrow(new ServerException("날씨 데이터가 없습니다."));
+        weatherCache.refreshAsync().get(5, TimeUnit.SECONDS);
+        ReflectionTestUtils.setField(weatherCache, "ttlMillis", 0L);
+
+        // when
+        String first = weatherCache.getTodayWeather();
+        Thread.sleep(100);
+        String second = weatherCache.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+    }
+
+    @Test
+    void 스냅샷이_없는데_조회에_실패하면_예외가_발생한다() {
+        // given
+        given(weatherClient.fetchWeatherByDate()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, () -> weatherCache.getTodayWeather());
+        assertEquals("날씨 데이터가 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 재시작하면_스냅샷_파일로_네트워크_없이_바로_응답한다(@TempDir Path dir) throws Exception {
+        // given
+        Path snapshotPath = dir.resolve("weather-snapshot.bin");
+        ReflectionTestUtils.setField(weatherCache, "snapshotPath", snapshotPath.toString());
+        weatherCache.loadSnapshotFile();
+        given(weatherClient.fetchWeatherByDate()).willReturn(Map.of(TODAY, "Sunny"));
+        weatherCache.refreshAsync().get(5, TimeUnit.SECONDS);
+
+        WeatherClient offlineClient = mock(WeatherClient.class);
+        WeatherCache restarted = new WeatherCache(offlineClient);
+        ReflectionTestUtils.setField(restarted, "snapshotPath", snapshotPath.toString());
+        ReflectionTestUtils.setField(restarted, "ttlMillis", 86_400_000L);
+
+        // when
+        restarted.loadSnapshotFile();
+        String weather = restarted.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+        verify(offlineClient, never()).fetchWeatherByDate();
+    }
+
+    @Test
+    void 체크섬이_맞지_않는_스냅샷_파일은_무시한다(@TempDir Path dir) throws Exception {
+        // given
+        Path snapshotPath = dir.resolve("weather-snapshot.bin");
+        new WeatherSnapshotFile(snapshotPath).write(
+                new WeatherCache.Snapshot(Map.of(TODAY, "Sunny"), LocalDate.now(), System.currentTimeMillis()));
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(snapshotPath, bytes);
+
+        // when
+        Optional<WeatherCache.Snapshot> restored = new WeatherSnapshotFile(snapshotPath).read();
+
+        // then
+        assertTrue(restored.isEmpty());
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherClientTest {
+
+    @Test
+    void 날씨_배열을_한_번에_훑어_날짜별_맵으로_만든다() throws Exception {
+        // given
+        String json = "[{\"date\":\"01-01\",\"weather\":\"Sunny\",\"extra\":{\"a\":[1,2]}}," +
+                "{\"weather\":\"Rainy\",\"date\":\"01-02\"}," +
+                "{\"date\":\"01-01\",\"weather\":\"Cloudy\"}," +
+                "{\"date\":\"01-03\"}]";
+
+        // when
+        Map<String, String> weatherByDate;
+        try (JsonParser parser = new ObjectMapper().getFactory().createParser(json)) {
+            weatherByDate = WeatherClient.parseWeatherByDate(parser);
+        }
+
+        // then
+        assertEquals(Map.of("01-01", "Sunny", "01-02", "Rainy"), weatherByDate);
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.expert.client.transport;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientHttpTransportTest {
+
+    private static final byte[] OK_BODY = "ok".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private URI uri;
+
+    // 장애 주입: 상태 코드와 지연을 요청마다 바꿀 수 있는 로컬 서버
+    private final AtomicInteger statusCode = new AtomicInteger(200);
+    private final AtomicLong delayMillis = new AtomicLong();
+    private final AtomicInteger slowRequests = new AtomicInteger();
+    private final AtomicInteger hits = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/data", exchange -> {
+            hits.incrementAndGet();
+            long delay = slowRequests.getAndDecrement() > 0 ? delayMillis.get() : 0;
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int status = statusCode.get();
+            exchange.sendResponseHeaders(status, OK_BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(OK_BODY);
+            }
+        });
+        server.start();
+        uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/data");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 연속_실패하면_서킷이_열리고_대기_후_probe가_성공하면_닫힌다() throws Exception {
+        // given
+        ResilientHttpTransport transport = transport(8, 3, Duration.ofMillis(200), Duration.ZERO);
+        statusCode.set(500);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ServerException.class, () -> transport.get(uri));
+        }
+
+        // when
+        int hitsWhenOpened = hits.get();
+        assertThrows(ServerException.class, () -> transport.get(uri));
+        CircuitState stateWhileOpen = transport.stats().state();
+
+        statusCode.set(200);
+        Thread.sleep(250);
+        byte[] probe = transport.get(uri);
+
+        // then
+        assertEquals(CircuitState.OPEN, stateWhileOpen);
+        assertEquals(hitsWhenOpened + 1, hits.get()); // 열려 있는 동안에는 서버까지 가지 않는다
+        assertArrayEquals(OK_BODY, probe);
+        TransportStats stats = transport.stats();
+        assertEquals(CircuitState.CLOSED, stats.state());
+        assertEquals(3, stats.byState().get(CircuitState.CLOSED).failures());
+        assertEquals(1, stats.byState().get(CircuitState.OPEN).rejected());
+        assertEquals(1, stats.byState().get(CircuitState.HALF_OPEN).calls());
+    }
+
+    @Test
+    void 동시_호출_한도를_넘으면_즉시_거절한다() throws Exception {
+        // given
+        ResilientHttpTransport transport = transport(1, 5, Duration.ofSeconds(10), Duration.ZERO);
+        delayMillis.set(500);
+        slowRequests.set(1);
+        CompletableFuture<byte[]> slowCall = CompletableFuture.supplyAsync(() -> transport.get(uri));
+        Thread.sleep(100);
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> transport.get(uri));
+
+        // then
+        assertTrue(exception.getMessage().contains("동시 호출 한도"));
+        assertArrayEquals(OK_BODY, slowCall.get(5, TimeUnit.SECONDS));
+        assertEquals(1, transport.stats().bulkheadRejected());
+    }
+
+    @Test
+    void 첫_요청이_늦으면_헤징_요청의_응답을_먼저_사용한다() {
+        // given
+        ResilientHttpTransport transport = transport(8, 5, Duration.ofSeconds(10), Duration.ofMillis(50));
+        delayMillis.set(1_000);
+        slowRequests.set(1);
+
+        // when
+        long start = System.nanoTime();
+        byte[] body = transport.get(uri);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertArrayEquals(OK_BODY, body);
+        assertTrue(elapsedMillis < 500, "응답 시간: " + elapsedMillis + "ms");
+        assertEquals(1, transport.stats().hedgedRequests());
+    }
+
+    private ResilientHttpTransport transport(int maxConcurrent, int failureThreshold, Duration openDuration,
+                                             Duration hedgeDelay) {
+        return new ResilientHttpTransport("test", new TransportSettings(
+                Duration.ofMillis(500),
+                Duration.ofSeconds(2),
+                maxConcurrent,
+                Duration.ofMillis(10),
+                failureThreshold,
+                openDuration,
+                hedgeDelay
+        ));
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.config;
+
+import org.example.expert.config.ErrorResponseWriter.ErrorTemplate;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponseWriterTest {
+
+    private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter();
+
+    @Test
+    void 메시지의_특수문자만_이스케이프해서_응답_본문을_쓴다() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        errorResponseWriter.write(response, HttpStatus.BAD_REQUEST, "잘못된 \"값\"\n입니다");
+
+        // then
+        assertEquals(400, response.getStatus());
+        assertEquals("application/json", response.getContentType());
+        assertEquals("{\"status\":\"BAD_REQUEST\",\"code\":400,\"message\":\"잘못된 \\\"값\\\"\\n입니다\"}",
+                response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+    }
+
+    @Test
+    void 고정_메시지_템플릿은_미리_인코딩된_본문을_그대로_쓴다() throws Exception {
+        // given
+        ErrorTemplate template = errorResponseWriter.template(HttpStatus.UNAUTHORIZED, "INVALID_TOKEN");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        errorResponseWriter.write(response, template);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertArrayEquals(template.body(), response.getContentAsByteArray());
+        assertEquals("{\"status\":\"UNAUTHORIZED\",\"code\":401,\"message\":\"INVALID_TOKEN\"}",
+                response.getContentAsString());
+    }
+}
@@ -1,10 +1,20 @@
 package org.example.expert.config;
 
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
@@ -25,4 +35,74 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 저장된_해시에서_cost를_읽어_재해싱_여부를_판단한다() {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+        String strongerHash = "$2a$12$" + encodedPassword.substring(7);
+
+        // when & then
+        assertEquals(passwordEncoder.getCost(), passwordEncoder.costOf(encodedPassword));
+        assertFalse(passwordEncoder.needsRehash(encodedPassword));
+        assertFalse(passwordEncoder.needsRehash(strongerHash)); // 더 높은 cost 는 낮추지 않는다
+    }
+
+    @Test
+    void 현재_cost_보다_낮은_해시만_재해싱한다() {
+        // given
+        PasswordEncoder encoder = new PasswordEncoder();
+        String weakHash = encoder.encode("testPassword");
+        ReflectionTestUtils.setField(encoder, "cost", 10);
+
+        // when & then
+        assertTrue(encoder.needsRehash(weakHash));
+        assertFalse(encoder.needsRehash("$2a$10$" + weakHash.substring(7)));
+        assertFalse(encoder.needsRehash("$2a$12$" + weakHash.substring(7)));
+        encoder.shutdown();
+    }
+
+    @Test
+    void 지연_예산을_못_맞춰도_설정된_cost_아래로_내리지_않는다() {
+        // given
+        PasswordEncoder encoder = new PasswordEncoder();
+        ReflectionTestUtils.setField(encoder, "cost", 6);
+        ReflectionTestUtils.setField(encoder, "calibrate", true);
+        ReflectionTestUtils.setField(encoder, "maxCost", 6);
+        ReflectionTestUtils.setField(encoder, "latencyBudgetMillis", -1L); // 어떤 cost 도 예산 안에 못 들어옴
+
+        // when
+        encoder.calibrate();
+
+        // then
+        assertEquals(6, encoder.getCost());
+        encoder.shutdown();
+    }
+
+    @Test
+    void 해싱_대기열이_가득_차면_즉시_429로_거절한다() throws Exception {
+        // given
+        PasswordEncoder saturated = new PasswordEncoder();
+        ReflectionTestUtils.setField(saturated, "cost", 12); // 작업 하나가 충분히 오래 걸리도록
+        ReflectionTestUtils.setField(saturated, "poolSize", 1);
+        ReflectionTestUtils.setField(saturated, "queueCapacity", 1);
+        CompletableFuture<String> running = saturated.encodeAsync("first");
+        CompletableFuture<String> queued = saturated.encodeAsync("second");
+
+        try {
+            // when
+            TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                    () -> saturated.encodeAsync("third"));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            new GlobalExceptionHandler(new ErrorResponseWriter()).handleTooManyRequestsException(exception, response);
+
+            // then
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+            assertTrue(response.getContentAsString(StandardCharsets.UTF_8).contains("요청이 많아 잠시 후 다시 시도해주세요."));
+        } finally {
+            running.cancel(true);
+            queued.cancel(true);
+            saturated.shutdown();
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.id.TimeOrderedIdGenerator;
+import org.example.expert.domain.common.id.TsidGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenceConfigTest {
+
+    private final PersistenceConfig persistenceConfig = new PersistenceConfig();
+
+    @Test
+    void 노드_ID_를_설정하면_생성기가_그_노드로_발급한다() {
+        // when
+        TsidGenerator generator = persistenceConfig.tsidGenerator("7", true);
+
+        // then
+        assertEquals(7, TsidGenerator.nodeOf(generator.nextId()));
+    }
+
+    @Test
+    void 노드_ID_가_필수인데_없으면_기동에_실패한다() {
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> persistenceConfig.tsidGenerator("", true));
+
+        // then
+        assertTrue(exception.getMessage().contains("id.node-id"));
+    }
+
+    @Test
+    void 노드_ID_없이_허용하면_경고만_남기고_임의_노드로_진행한다() {
+        // when
+        TsidGenerator generator = persistenceConfig.tsidGenerator("", false);
+
+        // then
+        assertTrue(generator.node() >= 0 && generator.node() <= TsidGenerator.MAX_NODE);
+    }
+
+    @Test
+    void 범위를_벗어난_노드_ID_는_거절한다() {
+        assertThrows(IllegalArgumentException.class,
+                () -> persistenceConfig.tsidGenerator(String.valueOf(TsidGenerator.MAX_NODE + 1), true));
+    }
+
+    @Test
+    void 생성기_빈을_Hibernate_설정으로_넘긴다() {
+        // given
+        TsidGenerator generator = new TsidGenerator(3);
+        Map<String, Object> properties = new HashMap<>();
+
+        // when
+        persistenceConfig.tsidGeneratorCustomizer(generator).customize(properties);
+
+        // then
+        assertSame(generator, properties.get(TimeOrderedIdGenerator.GENERATOR_SETTING));
+    }
+}
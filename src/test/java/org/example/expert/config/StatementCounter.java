@@ -0,0 +1,100 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// DataSource -> Connection -> PreparedStatement 를 프록시로 감싸 SQL 별 executeBatch/executeUpdate 횟수를 센다
+// 리포지토리 테스트에서 CountingDataSourceConfig 를 @Import 해서 쓴다
+public final class StatementCounter {
+
+    private static final Map<String, AtomicInteger> BATCHES = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> UPDATES = new ConcurrentHashMap<>();
+
+    private StatementCounter() {
+    }
+
+    public static void reset() {
+        BATCHES.clear();
+        UPDATES.clear();
+    }
+
+    public static int batches(String sqlPrefix) {
+        return sum(BATCHES, sqlPrefix);
+    }
+
+    public static int singleUpdates(String sqlPrefix) {
+        return sum(UPDATES, sqlPrefix);
+    }
+
+    private static int sum(Map<String, AtomicInteger> counts, String sqlPrefix) {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getKey().toLowerCase().startsWith(sqlPrefix))
+                .mapToInt(entry -> entry.getValue().get())
+                .sum();
+    }
+
+    static DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (method, args, result) ->
+                result instanceof Connection connection ? wrapConnection(connection) : result);
+    }
+
+    private static Connection wrapConnection(Connection target) {
+        return proxy(Connection.class, target, (method, args, result) -> {
+            if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                return wrapStatement(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrapStatement(PreparedStatement target, String sql) {
+        return proxy(PreparedStatement.class, target, (method, args, result) -> {
+            if (method.getName().equals("executeBatch")) {
+                BATCHES.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+            } else if (method.getName().equals("executeUpdate")) {
+                UPDATES.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+            }
+            return result;
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+            try {
+                return mapper.map(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    private interface ResultMapper {
+        Object map(Method method, Object[] args, Object result);
+    }
+
+    @TestConfiguration
+    public static class CountingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.expert.domain.audit.store;
+
+import org.example.expert.aop.audit.AdminAuditRecord;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditSegmentStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 사용자별로_페이지를_나눠_조회하고_재시작_후에도_조회된다() throws Exception {
+        // given
+        AuditSegmentStore store = openStore();
+        List<AdminAuditRecord> records = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            long userId = i % 3;
+            records.add(new AdminAuditRecord(userId, "PATCH", "/admin/users/" + i, System.currentTimeMillis(), 1,
+                    "[{\"role\":\"ADMIN\"}]", "null", null));
+        }
+        store.write(records);
+        store.close();
+
+        // when
+        AuditSegmentStore reopened = openStore();
+        AuditLogSlice first = reopened.query(1L, 0, Long.MAX_VALUE, null, 60);
+        AuditLogSlice second = reopened.query(1L, 0, Long.MAX_VALUE, first.nextCursor(), 60);
+
+        // then
+        assertEquals(60, first.entries().size());
+        assertNotNull(first.nextCursor());
+        assertEquals(40, second.entries().size());
+        assertNull(second.nextCursor());
+        assertTrue(second.entries().stream().allMatch(entry -> entry.userId() == 1L));
+        assertEquals("/admin/users/1", first.entries().get(0).uri());
+    }
+
+    @Test
+    void 레코드_시작점이_아닌_커서_오프셋은_거절한다() throws Exception {
+        // given
+        AuditSegmentStore store = openStore();
+        store.write(List.of(
+                new AdminAuditRecord(1L, "GET", "/admin/a", 0, 1, null, null, null),
+                new AdminAuditRecord(1L, "GET", "/admin/b", 0, 1, null, null, null)));
+        AuditLogSlice first = store.query(1L, 0, Long.MAX_VALUE, null, 1);
+        String segment = first.nextCursor().split(":")[0];
+        int offset = Integer.parseInt(first.nextCursor().split(":")[1]);
+
+        // when & then
+        assertEquals(1, store.query(1L, 0, Long.MAX_VALUE, first.nextCursor(), 1).entries().size());
+        for (String cursor : List.of(segment + ":-4", segment + ":" + (offset + 1), segment + ":" + Integer.MAX_VALUE, "x:1", segment)) {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> store.query(1L, 0, Long.MAX_VALUE, cursor, 1));
+            assertEquals("잘못된 커서입니다.", exception.getMessage());
+        }
+    }
+
+    private AuditSegmentStore openStore() throws Exception {
+        AuditSegmentStore store = new AuditSegmentStore();
+        ReflectionTestUtils.setField(store, "directory", directory.toString());
+        ReflectionTestUtils.setField(store, "segmentBytes", 16 * 1024); // 작은 세그먼트로 회전까지 검증
+        ReflectionTestUtils.setField(store, "expectedRecordsPerSegment", 1000L);
+        ReflectionTestUtils.setField(store, "maxBodyBytes", 1024);
+        ReflectionTestUtils.setField(store, "retentionDays", 30L);
+        store.open();
+        return store;
+    }
+}
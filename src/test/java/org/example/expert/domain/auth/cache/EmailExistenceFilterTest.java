@@ -0,0 +1,114 @@
+package org.example.expert.domain.auth.cache;
+
+import org.example.expert.domain.user.repository.UserEmail;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class EmailExistenceFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private EmailExistenceFilter emailExistenceFilter;
+
+    @BeforeEach
+    void setUp() {
+        emailExistenceFilter = new EmailExistenceFilter(userRepository);
+        ReflectionTestUtils.setField(emailExistenceFilter, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(emailExistenceFilter, "maxStalenessMillis", 15_000L);
+        ReflectionTestUtils.setField(emailExistenceFilter, "syncOverlapMillis", 30_000L);
+        given(userRepository.findEmailsAfter(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(userEmail(1L, "Member@Example.com")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailExistenceFilter.shutdown();
+    }
+
+    @Test
+    void 가입된_이메일은_대소문자와_무관하게_존재할_수_있다고_판단한다() {
+        // given
+        given(userRepository.count()).willReturn(1L);
+        emailExistenceFilter.rebuild(1_000);
+
+        // when & then
+        assertTrue(emailExistenceFilter.mightExist("member@example.com"));
+        assertFalse(emailExistenceFilter.mightExist("nobody@example.com"));
+        assertEquals(1, emailExistenceFilter.stats().negatives());
+    }
+
+    @Test
+    void 다른_노드에서_가입한_이메일도_동기화_후에는_음성이_나오지_않는다() {
+        // given
+        given(userRepository.count()).willReturn(1L);
+        emailExistenceFilter.rebuild(1_000);
+        given(userRepository.findEmailsCreatedSince(any(LocalDateTime.class)))
+                .willReturn(List.of("other-node@example.com"));
+
+        // when
+        emailExistenceFilter.sync();
+
+        // then
+        assertTrue(emailExistenceFilter.mightExist("other-node@example.com"));
+    }
+
+    @Test
+    void 동기화가_밀리면_음성_판정을_쓰지_않는다() {
+        // given
+        given(userRepository.count()).willReturn(1L);
+        emailExistenceFilter.rebuild(1_000);
+        ReflectionTestUtils.setField(emailExistenceFilter, "syncedAt", System.currentTimeMillis() - 60_000);
+
+        // when
+        boolean mightExist = emailExistenceFilter.mightExist("nobody@example.com");
+
+        // then
+        assertTrue(mightExist);
+        assertEquals(1, emailExistenceFilter.stats().unsyncedLookups());
+    }
+
+    @Test
+    void 요청_크기가_사용자_수보다_작으면_늘린_크기를_통계에_남긴다() {
+        // given
+        given(userRepository.count()).willReturn(1_000L);
+
+        // when
+        emailExistenceFilter.rebuild(100);
+
+        // then
+        EmailExistenceFilterStats stats = emailExistenceFilter.stats();
+        assertEquals(100, stats.expectedInsertions());
+        assertEquals(2_000, stats.sizedInsertions());
+    }
+
+    private static UserEmail userEmail(Long id, String email) {
+        return new UserEmail() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.expert.domain.auth.cache;
+
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.common.exception.InvalidTokenException;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.security.util.TokenDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenEpochCache tokenEpochCache;
+    private RefreshTokenStore refreshTokenStore;
+
+    private final LocalDateTime expiresAt = LocalDateTime.now().plusDays(7);
+
+    @BeforeEach
+    void setUp() {
+        tokenEpochCache = new TokenEpochCache(userRepository);
+        refreshTokenStore = new RefreshTokenStore(refreshTokenRepository, userRepository, tokenEpochCache);
+        ReflectionTestUtils.setField(refreshTokenStore, "maxSize", 100);
+        ReflectionTestUtils.setField(refreshTokenStore, "maxSessionsPerUser", 5);
+    }
+
+    @Test
+    void 권한이_강등되면_캐시된_세션이_아니라_DB_사용자_정보로_재발급한다() {
+        // given
+        User user = user(UserRole.ADMIN);
+        refreshTokenStore.create(user, "refresh-1", expiresAt); // 트랜잭션 밖이라 즉시 캐시에 적재
+        String digest = TokenDigest.sha256Hex("refresh-1");
+
+        // 관리자 권한 변경과 같은 순서 (UserAdminService.changeUserRole)
+        user.updateRole(UserRole.USER);
+        user.increaseTokenVersion();
+        tokenEpochCache.updateAfterCommit(user.getId(), user.getTokenVersion());
+
+        given(refreshTokenRepository.findById(digest))
+                .willReturn(Optional.of(new RefreshToken(digest, user.getId(), expiresAt)));
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+        given(refreshTokenRepository.deleteByTokenDigest(digest)).willReturn(1);
+
+        // when
+        RefreshSession rotated = refreshTokenStore.rotate(user.getId(), "refresh-1", "refresh-2", expiresAt);
+
+        // then
+        assertEquals("USER", rotated.userRole());
+        assertEquals(1L, rotated.tokenVersion());
+        assertFalse(tokenEpochCache.isRevoked(user.getId(), rotated.tokenVersion()));
+    }
+
+    @Test
+    void 같은_리프레시_토큰으로_두_번_교체하면_두_번째_요청은_실패한다() {
+        // given
+        User user = user(UserRole.USER);
+        refreshTokenStore.create(user, "refresh-1", expiresAt);
+        String digest = TokenDigest.sha256Hex("refresh-1");
+
+        // 두 번째 요청은 캐시가 비어 DB 에서 다시 읽지만, 먼저 교체한 요청이 행을 지웠으므로 DELETE 는 0 건
+        given(refreshTokenRepository.findById(digest))
+                .willReturn(Optional.of(new RefreshToken(digest, user.getId(), expiresAt)));
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+        given(refreshTokenRepository.deleteByTokenDigest(digest)).willReturn(1, 0);
+
+        // when
+        RefreshSession first = refreshTokenStore.rotate(user.getId(), "refresh-1", "refresh-2", expiresAt);
+        InvalidTokenException exception = assertThrows(InvalidTokenException.class,
+                () -> refreshTokenStore.rotate(user.getId(), "refresh-1", "refresh-3", expiresAt));
+
+        // then
+        assertEquals(TokenDigest.sha256Hex("refresh-2"), first.tokenDigest());
+        assertEquals("Refresh Token 불일치", exception.getMessage());
+        verify(refreshTokenRepository, times(2)).save(any(RefreshToken.class)); // 발급 + 첫 번째 교체만 저장
+    }
+
+    @Test
+    void 세션_수가_상한을_넘으면_가장_오래된_세션부터_삭제한다() {
+        // given
+        User user = user(UserRole.USER);
+        // 최신순: 방금 저장한 세션 + 기존 5개
+        given(refreshTokenRepository.findDigestsByUserIdNewestFirst(user.getId()))
+                .willReturn(List.of("new", "d5", "d4", "d3", "d2", "d1"));
+
+        // when
+        refreshTokenStore.create(user, "refresh-new", expiresAt);
+
+        // then
+        verify(refreshTokenRepository).deleteAllByTokenDigestIn(List.of("d1"));
+    }
+
+    @Test
+    void 세션_수가_상한_이내면_삭제하지_않는다() {
+        // given
+        User user = user(UserRole.USER);
+        given(refreshTokenRepository.findDigestsByUserIdNewestFirst(user.getId()))
+                .willReturn(List.of("new", "d4", "d3", "d2", "d1"));
+
+        // when
+        refreshTokenStore.create(user, "refresh-new", expiresAt);
+
+        // then
+        verify(refreshTokenRepository, never()).deleteAllByTokenDigestIn(anyList());
+    }
+
+    @Test
+    void 사용자_세션을_비우면_다른_사용자의_세션은_캐시에_남는다() {
+        // given
+        User user = user(UserRole.USER);
+        User other = new User("other@example.com", "pw", UserRole.USER);
+        ReflectionTestUtils.setField(other, "id", 2L);
+        refreshTokenStore.create(user, "refresh-1", expiresAt);
+        refreshTokenStore.create(user, "refresh-2", expiresAt);
+        refreshTokenStore.create(other, "refresh-3", expiresAt);
+
+        // when
+        refreshTokenStore.evict(user.getId());
+
+        // then
+        Map<?, ?> sessions = (Map<?, ?>) ReflectionTestUtils.getField(refreshTokenStore, "sessions");
+        Map<?, ?> digestsByUser = (Map<?, ?>) ReflectionTestUtils.getField(refreshTokenStore, "digestsByUser");
+        assertEquals(1, sessions.size());
+        assertTrue(sessions.containsKey(TokenDigest.sha256Hex("refresh-3")));
+        assertFalse(digestsByUser.containsKey(user.getId()));
+    }
+
+    private User user(UserRole userRole) {
+        User user = new User("user@example.com", "pw", userRole);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+}
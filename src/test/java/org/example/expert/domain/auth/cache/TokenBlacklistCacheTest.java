@@ -0,0 +1,147 @@
+package org.example.expert.domain.auth.cache;
+
+import org.example.expert.domain.auth.repository.TokenBlacklistRepository;
+import org.example.expert.security.util.TokenDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistCacheTest {
+
+    @Mock
+    private TokenBlacklistRepository tokenBlacklistRepository;
+    @InjectMocks
+    private TokenBlacklistCache tokenBlacklistCache;
+
+    @BeforeEach
+    void setUp() {
+        configure(tokenBlacklistCache);
+        given(tokenBlacklistRepository.findDigestsFromBucket(anyLong())).willReturn(List.of());
+        tokenBlacklistCache.rebuild();
+    }
+
+    @Test
+    void 폐기되지_않은_토큰은_DB를_조회하지_않는다() {
+        // when
+        boolean revoked = tokenBlacklistCache.isRevoked("not-revoked-token");
+
+        // then
+        assertFalse(revoked);
+        verify(tokenBlacklistRepository, never()).existsById(anyString());
+        assertEquals(1, tokenBlacklistCache.stats().bloomNegatives());
+    }
+
+    @Test
+    void 로컬에서_폐기한_토큰은_DB_조회_없이_차단된다() {
+        // given
+        tokenBlacklistCache.revoke("revoked-token", System.currentTimeMillis() + 60_000);
+
+        // when
+        boolean revoked = tokenBlacklistCache.isRevoked("revoked-token");
+
+        // then
+        assertTrue(revoked);
+        verify(tokenBlacklistRepository, never()).existsById(anyString());
+        assertEquals(1, tokenBlacklistCache.stats().exactHits());
+    }
+
+    @Test
+    void 다른_노드에서_폐기한_토큰도_동기화_후에는_차단된다() {
+        // given
+        TokenBlacklistCache otherNode = configure(new TokenBlacklistCache(tokenBlacklistRepository));
+        otherNode.rebuild();
+        String token = "revoked-on-this-node";
+        tokenBlacklistCache.revoke(token, System.currentTimeMillis() + 60_000);
+        given(tokenBlacklistRepository.findDigestsRevokedSince(anyLong(), anyLong()))
+                .willReturn(List.of(TokenDigest.sha256Hex(token)));
+        given(tokenBlacklistRepository.existsById(TokenDigest.sha256Hex(token))).willReturn(true);
+
+        // when
+        otherNode.sync();
+        boolean revoked = otherNode.isRevoked(token);
+
+        // then
+        assertTrue(revoked);
+        assertEquals(1, otherNode.stats().dbConfirmed());
+    }
+
+    @Test
+    void 필터를_적재하기_전에는_DB로_확인한다() {
+        // given
+        TokenBlacklistCache notLoaded = configure(new TokenBlacklistCache(tokenBlacklistRepository));
+        given(tokenBlacklistRepository.existsById(TokenDigest.sha256Hex("revoked-elsewhere"))).willReturn(true);
+
+        // when
+        boolean revoked = notLoaded.isRevoked("revoked-elsewhere");
+
+        // then
+        assertTrue(revoked);
+        assertEquals(1, notLoaded.stats().unsyncedLookups());
+    }
+
+    @Test
+    void 동기화가_밀리면_필터의_음성_판정을_쓰지_않는다() {
+        // given
+        ReflectionTestUtils.setField(tokenBlacklistCache, "syncedAt", System.currentTimeMillis() - 120_000);
+        given(tokenBlacklistRepository.existsById(TokenDigest.sha256Hex("revoked-elsewhere"))).willReturn(true);
+
+        // when
+        boolean revoked = tokenBlacklistCache.isRevoked("revoked-elsewhere");
+
+        // then
+        assertTrue(revoked);
+        assertEquals(0, tokenBlacklistCache.stats().bloomNegatives());
+    }
+
+    @Test
+    void 재구성_중에_폐기한_토큰도_새_필터에_남는다() {
+        // given
+        given(tokenBlacklistRepository.findDigestsFromBucket(anyLong())).willAnswer(invocation -> {
+            tokenBlacklistCache.revoke("revoked-during-rebuild", System.currentTimeMillis() + 60_000);
+            return List.of();
+        });
+
+        // when
+        tokenBlacklistCache.rebuild();
+        boolean revoked = tokenBlacklistCache.isRevoked("revoked-during-rebuild");
+
+        // then
+        assertTrue(revoked);
+        assertEquals(1, tokenBlacklistCache.stats().exactHits());
+    }
+
+    @Test
+    void 재구성_없이도_만료된_토큰은_정확_집합에서_제거된다() {
+        // given
+        tokenBlacklistCache.revoke("expired-token", System.currentTimeMillis() - 1_000);
+        tokenBlacklistCache.revoke("live-token", System.currentTimeMillis() + 60_000);
+
+        // when
+        tokenBlacklistCache.evictExpired();
+
+        // then
+        assertEquals(1, tokenBlacklistCache.stats().exactSize());
+    }
+
+    private TokenBlacklistCache configure(TokenBlacklistCache cache) {
+        ReflectionTestUtils.setField(cache, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(cache, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(cache, "maxStalenessMillis", 60_000L);
+        ReflectionTestUtils.setField(cache, "syncOverlapMillis", 30_000L);
+        return cache;
+    }
+}
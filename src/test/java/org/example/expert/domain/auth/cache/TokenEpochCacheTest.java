@@ -0,0 +1,121 @@
+package org.example.expert.domain.auth.cache;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.repository.UserTokenVersion;
+import org.example.expert.security.util.JwtUtil;
+import org.example.expert.security.util.VerifiedToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenEpochCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @InjectMocks
+    private TokenEpochCache tokenEpochCache;
+
+    @Test
+    void 토큰_버전을_올리면_이전_ver_로_발급된_액세스_토큰은_거부된다() {
+        // given
+        JwtUtil jwtUtil = jwtUtil();
+        User user = new User("user@example.com", "pw", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        String oldToken = accessToken(jwtUtil, user);
+
+        // when
+        user.increaseTokenVersion();
+        tokenEpochCache.updateAfterCommit(user.getId(), user.getTokenVersion()); // 트랜잭션 밖이면 즉시 반영
+        String newToken = accessToken(jwtUtil, user);
+
+        // then
+        VerifiedToken oldVerified = jwtUtil.verifyAccessToken(oldToken);
+        VerifiedToken newVerified = jwtUtil.verifyAccessToken(newToken);
+        assertTrue(tokenEpochCache.isRevoked(1L, oldVerified.tokenVersion()));
+        assertFalse(tokenEpochCache.isRevoked(1L, newVerified.tokenVersion()));
+    }
+
+    @Test
+    void 다른_노드에서_올린_버전은_reload_로_반영되고_낮은_값으로_되돌아가지_않는다() {
+        // given
+        tokenEpochCache.updateAfterCommit(1L, 5L);
+        given(userRepository.findAllByTokenVersionGreaterThan(0L))
+                .willReturn(List.of(tokenVersion(1L, 3L), tokenVersion(2L, 2L)));
+
+        // when
+        tokenEpochCache.reload();
+
+        // then
+        assertEquals(5L, tokenEpochCache.currentEpoch(1L));
+        assertEquals(2L, tokenEpochCache.currentEpoch(2L));
+        assertTrue(tokenEpochCache.isRevoked(2L, 1L));
+        assertFalse(tokenEpochCache.isRevoked(3L, 0L));
+    }
+
+    @Test
+    void 첫_적재_이후에는_마지막_적재_이후_수정된_사용자만_읽는다() {
+        // given
+        ReflectionTestUtils.setField(tokenEpochCache, "reloadOverlapMillis", 30_000L);
+        given(userRepository.findAllByTokenVersionGreaterThan(0L)).willReturn(List.of(tokenVersion(1L, 1L)));
+        given(userRepository.findTokenVersionsModifiedSince(any(LocalDateTime.class)))
+                .willReturn(List.of(tokenVersion(2L, 4L)));
+        LocalDateTime beforeFirstReload = LocalDateTime.now();
+
+        // when
+        tokenEpochCache.reload();
+        tokenEpochCache.reload();
+
+        // then
+        verify(userRepository, times(1)).findAllByTokenVersionGreaterThan(0L);
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(userRepository).findTokenVersionsModifiedSince(since.capture());
+        assertFalse(since.getValue().isAfter(beforeFirstReload.minusSeconds(29)));
+        assertEquals(1L, tokenEpochCache.currentEpoch(1L));
+        assertEquals(4L, tokenEpochCache.currentEpoch(2L));
+    }
+
+    private JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes()));
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 100);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private String accessToken(JwtUtil jwtUtil, User user) {
+        return jwtUtil.createAccessToken(user.getId(), user.getEmail(), user.getUserRole().name(), user.getTokenVersion())
+                .substring("Bearer ".length());
+    }
+
+    private UserTokenVersion tokenVersion(Long id, long version) {
+        return new UserTokenVersion() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public long getTokenVersion() {
+                return version;
+            }
+        };
+    }
+}
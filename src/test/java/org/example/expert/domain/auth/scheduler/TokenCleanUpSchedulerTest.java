@@ -0,0 +1,126 @@
+package org.example.expert.domain.auth.scheduler;
+
+import org.example.expert.domain.auth.service.TokenPurgeService;
+import org.example.expert.domain.common.entity.SchedulerLease;
+import org.example.expert.domain.common.repository.SchedulerLeaseRepository;
+import org.example.expert.domain.common.service.SchedulerLeaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenCleanUpSchedulerTest {
+
+    @Mock
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+    @Mock
+    private TokenPurgeService tokenPurgeService;
+
+    // scheduler_lease 테이블 한 행을 흉내 낸다 (조건부 UPDATE 의미 그대로)
+    private String leaseOwner;
+    private LocalDateTime leaseLockedUntil;
+
+    @BeforeEach
+    void setUp() {
+        given(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), any(), any())).willAnswer(invocation -> {
+            String owner = invocation.getArgument(1);
+            LocalDateTime now = invocation.getArgument(2);
+            if (leaseOwner == null || !(leaseLockedUntil.isBefore(now) || leaseOwner.equals(owner))) {
+                return 0;
+            }
+            leaseOwner = owner;
+            leaseLockedUntil = invocation.getArgument(3);
+            return 1;
+        });
+        given(schedulerLeaseRepository.existsById(anyString())).willAnswer(invocation -> leaseOwner != null);
+        given(schedulerLeaseRepository.saveAndFlush(any(SchedulerLease.class))).willAnswer(invocation -> {
+            SchedulerLease lease = invocation.getArgument(0);
+            leaseOwner = lease.getOwner();
+            leaseLockedUntil = lease.getLockedUntil();
+            return lease;
+        });
+        given(schedulerLeaseRepository.release(anyString(), anyString(), any())).willAnswer(invocation -> {
+            if (!invocation.getArgument(1).equals(leaseOwner)) {
+                return 0;
+            }
+            // 반납 직후 같은 시각에 다시 잡는 경우를 피하려고 1ns 앞당긴다
+            leaseLockedUntil = invocation.<LocalDateTime>getArgument(2).minusNanos(1);
+            return 1;
+        });
+    }
+
+    @Test
+    void lease_를_잡은_노드만_만료_토큰을_정리한다() {
+        // given
+        TokenCleanUpScheduler nodeA = scheduler();
+        TokenCleanUpScheduler nodeB = scheduler();
+        // A 가 정리하는 도중에 B 의 스케줄이 돈다
+        willAnswer(invocation -> {
+            nodeB.deleteExpiredTokens();
+            return List.of();
+        }).given(tokenPurgeService).purgeExpired();
+
+        // when
+        nodeA.deleteExpiredTokens();
+
+        // then
+        verify(tokenPurgeService, times(1)).purgeExpired();
+    }
+
+    @Test
+    void 정리가_끝나고_lease_를_반납하면_다음_실행은_다른_노드도_잡을_수_있다() {
+        // given
+        TokenCleanUpScheduler nodeA = scheduler();
+        TokenCleanUpScheduler nodeB = scheduler();
+        given(tokenPurgeService.purgeExpired()).willReturn(List.of());
+
+        // when
+        nodeA.deleteExpiredTokens();
+        nodeB.deleteExpiredTokens();
+
+        // then
+        verify(tokenPurgeService, times(2)).purgeExpired();
+    }
+
+    private TokenCleanUpScheduler scheduler() {
+        SchedulerLeaseService leaseService = new SchedulerLeaseService(
+                schedulerLeaseRepository, new TransactionTemplate(new NoOpTransactionManager()));
+        TokenCleanUpScheduler scheduler = new TokenCleanUpScheduler(tokenPurgeService, leaseService);
+        ReflectionTestUtils.setField(scheduler, "leaseMinutes", 30L);
+        return scheduler;
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
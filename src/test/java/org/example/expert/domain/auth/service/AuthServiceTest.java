@@ -0,0 +1,182 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.cache.EmailExistenceFilter;
+import org.example.expert.domain.auth.cache.RefreshTokenStore;
+import org.example.expert.domain.auth.cache.TokenBlacklistCache;
+import org.example.expert.domain.auth.cache.TokenEpochCache;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.response.SigninResponse;
+import org.example.expert.domain.auth.repository.TokenBlacklistRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.security.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TokenBlacklistRepository tokenBlacklistRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private JwtUtil jwtUtil;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+    @Mock
+    private TokenBlacklistCache tokenBlacklistCache;
+    @Mock
+    private TokenEpochCache tokenEpochCache;
+    @Mock
+    private EmailExistenceFilter emailExistenceFilter;
+
+    private final NoOpTransactionManager transactionManager = new NoOpTransactionManager();
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthService(userRepository, tokenBlacklistRepository, passwordEncoder, jwtUtil,
+                refreshTokenStore, tokenBlacklistCache, tokenEpochCache, emailExistenceFilter,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void 필터에_없는_이메일은_DB_조회_없이_로그인을_거절한다() {
+        // given
+        String email = "nobody@example.com";
+        given(emailExistenceFilter.mightExist(email)).willReturn(false);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> authService.signin(new SigninRequest(email, "password")));
+
+        // then
+        assertEquals("가입되지 않은 유저입니다.", exception.getMessage());
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void 로그인_비밀번호_검증은_트랜잭션_밖에서_하고_세션_저장만_트랜잭션으로_처리한다() {
+        // given
+        String email = "user@example.com";
+        User user = new User(email, "encoded", UserRole.USER);
+        given(emailExistenceFilter.mightExist(email)).willReturn(true);
+        given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("password", "encoded")).willAnswer(invocation -> {
+            assertFalse(transactionManager.active); // bcrypt 동안 트랜잭션(커넥션)을 잡지 않는다
+            return true;
+        });
+        given(passwordEncoder.needsRehash("encoded")).willReturn(false);
+        given(jwtUtil.createAccessToken(any(), anyString(), anyString(), anyLong())).willReturn("access");
+        given(jwtUtil.createRefreshToken()).willReturn("refresh");
+
+        // when
+        authService.signin(new SigninRequest(email, "password"));
+
+        // then
+        assertEquals(1, transactionManager.commits);
+        verify(refreshTokenStore).create(any(User.class), any(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void DB에도_없는_이메일이면_로그인을_거절한다() {
+        // given
+        String email = "nobody@example.com";
+        given(emailExistenceFilter.mightExist(email)).willReturn(true); // 오탐 또는 sync 지연
+        given(userRepository.findByEmail(email)).willReturn(Optional.empty());
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> authService.signin(new SigninRequest(email, "password")));
+
+        // then
+        assertEquals("가입되지 않은 유저입니다.", exception.getMessage());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    void 이미_가입된_이메일은_해싱_전에_거절한다() {
+        // given
+        String email = "dup@example.com";
+        given(emailExistenceFilter.mightExist(email)).willReturn(true);
+        given(userRepository.existsByEmail(email)).willReturn(true);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> authService.signup(new SignupRequest(email, "password", "USER")));
+
+        // then
+        assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    @Test
+    void 동시_가입으로_unique_제약에_걸리면_이미_존재하는_이메일로_응답한다() {
+        // given
+        String email = "race@example.com";
+        given(emailExistenceFilter.mightExist(email)).willReturn(false); // 다른 노드에서 방금 가입해 아직 sync 전
+        given(passwordEncoder.encode("password")).willReturn("encoded");
+        given(userRepository.saveAndFlush(any(User.class)))
+                .willThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> authService.signup(new SignupRequest(email, "password", "USER")));
+
+        // then
+        assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(emailExistenceFilter, never()).add(anyString());
+        verify(refreshTokenStore, never()).create(any(), any(), any());
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        private boolean active;
+        private int commits;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            active = true;
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            active = false;
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            active = false;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.auth.dto.response.TokenPurgeReport;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.auth.repository.TokenBlacklistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenPurgeServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private TokenBlacklistRepository tokenBlacklistRepository;
+
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+
+    @Test
+    void 만료_토큰을_청크마다_별도_트랜잭션으로_지우고_결과를_남긴다() {
+        // given
+        TokenPurgeService tokenPurgeService = new TokenPurgeService(
+                refreshTokenRepository, tokenBlacklistRepository, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(tokenPurgeService, "chunkSize", 2);
+        ReflectionTestUtils.setField(tokenPurgeService, "pauseMillis", 0L);
+        given(refreshTokenRepository.findExpiredDigests(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of("a", "b"))
+                .willReturn(List.of("c", "d"))
+                .willReturn(List.of("e"));
+        given(refreshTokenRepository.deleteAllByTokenDigestIn(anyList()))
+                .willAnswer(invocation -> invocation.<List<String>>getArgument(0).size());
+        given(tokenBlacklistRepository.findBucketsBefore(anyLong())).willReturn(List.of(10L, 11L));
+        given(tokenBlacklistRepository.findDigestsInBucket(eq(10L), any(Pageable.class)))
+                .willReturn(List.of("x", "y"))
+                .willReturn(List.of("z"));
+        given(tokenBlacklistRepository.findDigestsInBucket(eq(11L), any(Pageable.class)))
+                .willReturn(List.of("w"));
+        given(tokenBlacklistRepository.deleteAllByTokenDigestIn(anyList()))
+                .willAnswer(invocation -> invocation.<List<String>>getArgument(0).size());
+
+        // when
+        List<TokenPurgeReport> reports = tokenPurgeService.purgeExpired();
+
+        // then
+        TokenPurgeReport refresh = reports.get(0);
+        assertEquals(5, refresh.getRows());
+        assertEquals(3, refresh.getChunks());
+        TokenPurgeReport blacklist = reports.get(1);
+        assertEquals(4, blacklist.getRows());
+        assertEquals(3, blacklist.getChunks()); // 버킷 10 은 2 청크, 버킷 11 은 1 청크
+        assertEquals(6, transactionManager.commits);
+        verify(refreshTokenRepository, times(3)).deleteAllByTokenDigestIn(anyList());
+        assertSame(reports, tokenPurgeService.getLastReports());
+    }
+
+    private static class CountingTransactionManager implements PlatformTransactionManager {
+
+        private int commits;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
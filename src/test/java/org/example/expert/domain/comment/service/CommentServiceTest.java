@@ -1,9 +1,12 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.CommentCursor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -15,12 +18,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
@@ -81,4 +87,42 @@ class CommentServiceTest {
         assertEquals(saved.getContents(), result.getContents());
         assertEquals(writer.getId(), result.getUser().getId());
     }
+
+    @Test
+    void 댓글_목록은_한_건_더_읽어_다음_커서를_만들고_그_커서부터_이어서_조회한다() {
+        // given
+        long todoId = 1L;
+        given(commentRepository.findFirstSliceByTodoId(eq(todoId), any(Pageable.class)))
+                .willReturn(List.of(comment(10L), comment(11L), comment(12L)));
+        given(commentRepository.findSliceByTodoIdAfter(eq(todoId), eq(11L), any(Pageable.class)))
+                .willReturn(List.of(comment(12L)));
+
+        // when
+        CursorSliceResponse<CommentResponse> first = commentService.getComments(todoId, null, 2);
+        CursorSliceResponse<CommentResponse> second = commentService.getComments(todoId, first.getNextCursor(), 2);
+
+        // then
+        assertEquals(List.of(10L, 11L), first.getContent().stream().map(CommentResponse::getId).toList());
+        assertTrue(first.isHasNext());
+        assertEquals(List.of(12L), second.getContent().stream().map(CommentResponse::getId).toList());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void 다른_할일의_커서를_넘기면_예외가_발생한다() {
+        // given
+        String otherTodoCursor = new CommentCursor(2L, 11L).encode();
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.getComments(1L, otherTodoCursor, 20));
+
+        // then
+        assertEquals("잘못된 커서입니다.", exception.getMessage());
+    }
+
+    private CommentResponse comment(Long id) {
+        return new CommentResponse(id, "contents" + id, 1L, "user@example.com");
+    }
 }
@@ -0,0 +1,60 @@
+package org.example.expert.domain.common.count;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TotalCounterTest {
+
+    private TotalCounter totalCounter;
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        totalCounter = new TotalCounter();
+        ReflectionTestUtils.setField(totalCounter, "cacheTtlMillis", 60_000L);
+        ReflectionTestUtils.setField(totalCounter, "resyncMillis", 60_000L);
+    }
+
+    @Test
+    void CACHED_전략은_TTL_동안_COUNT를_다시_실행하지_않고_근사치로_표시한다() {
+        // when
+        CountResult first = totalCounter.count("todos", CountStrategy.CACHED, () -> countQueries.incrementAndGet() * 100L);
+        CountResult second = totalCounter.count("todos", CountStrategy.CACHED, () -> countQueries.incrementAndGet() * 100L);
+
+        // then
+        assertEquals(new CountResult(100, false), first);
+        assertEquals(new CountResult(100, true), second);
+        assertEquals(1, countQueries.get());
+    }
+
+    @Test
+    void INCREMENTAL_전략은_처음_한_번만_세고_이후에는_증감을_반영한다() {
+        // given
+        totalCounter.count("todos", CountStrategy.INCREMENTAL, () -> countQueries.incrementAndGet() * 10L);
+
+        // when
+        totalCounter.adjust("todos", 1);
+        totalCounter.adjust("todos", 1);
+        totalCounter.adjust("todos", -1);
+        CountResult result = totalCounter.count("todos", CountStrategy.INCREMENTAL, () -> countQueries.incrementAndGet() * 10L);
+
+        // then
+        assertEquals(new CountResult(11, true), result);
+        assertEquals(1, countQueries.get());
+    }
+
+    @Test
+    void EXACT_전략은_매번_COUNT를_실행한다() {
+        // when
+        totalCounter.count("todos", CountStrategy.EXACT, () -> countQueries.incrementAndGet());
+        CountResult result = totalCounter.count("todos", CountStrategy.EXACT, () -> countQueries.incrementAndGet());
+
+        // then
+        assertEquals(new CountResult(2, false), result);
+    }
+}
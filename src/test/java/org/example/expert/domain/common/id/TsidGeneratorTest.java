@@ -0,0 +1,65 @@
+package org.example.expert.domain.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TsidGeneratorTest {
+
+    @Test
+    void 한_스레드에서_발급한_ID는_항상_증가하고_노드와_시각을_담고_있다() {
+        // given
+        TsidGenerator generator = new TsidGenerator(7);
+        long before = System.currentTimeMillis();
+
+        // when
+        long previous = 0;
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+
+            // then
+            assertTrue(id > previous);
+            previous = id;
+        }
+        assertEquals(7, TsidGenerator.nodeOf(previous));
+        assertTrue(TsidGenerator.timestampOf(previous) >= before);
+    }
+
+    @Test
+    void 여러_스레드에서_동시에_발급해도_ID가_겹치지_않는다() throws Exception {
+        // given
+        TsidGenerator generator = new TsidGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(8 * 50_000, ids.size());
+    }
+
+    @Test
+    void 범위를_벗어난_노드는_거절한다() {
+        assertThrows(IllegalArgumentException.class, () -> new TsidGenerator(TsidGenerator.MAX_NODE + 1));
+    }
+}
@@ -41,7 +41,7 @@ class ManagerServiceTest {
     public void manager_목록_조회_시_Todo가_없다면_예외를_던진다() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(todoRepository.existsById(todoId)).willReturn(false);
 
 
 
@@ -81,10 +81,11 @@ class ManagerServiceTest {
         ReflectionTestUtils.setField(todo, "id", todoId);
 
         Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
+        List<ManagerResponse> managerList = List.of(
+                new ManagerResponse(mockManager.getId(), user.getId(), user.getEmail()));
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(todoRepository.existsById(todoId)).willReturn(true);
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(managerList);
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
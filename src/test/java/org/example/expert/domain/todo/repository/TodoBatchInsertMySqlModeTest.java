@@ -0,0 +1,56 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.StatementCounter;
+import org.example.expert.domain.common.count.TotalCounter;
+import org.example.expert.domain.common.id.TsidGenerator;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.listener.TodoCountListener;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 운영 DB 와 같은 MySQL 방언으로 DDL/insert 를 만들고, H2 MySQL 호환 모드에서 배치 insert 가 유지되는지 확인한다
+// (rewriteBatchedStatements 처럼 MySQL 드라이버 고유 동작은 실제 MySQL 에서만 확인 가능)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:mysql-mode;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        // H2 의 버전을 MySQL 버전으로 읽지 않도록 방언 기본값(MySQL 8)을 쓴다
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false",
+        "hibernate.batch-size=5"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, TotalCounter.class, TodoCountListener.class, StatementCounter.CountingDataSourceConfig.class})
+class TodoBatchInsertMySqlModeTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void MySQL_방언에서도_할일_N건을_batch_size_단위로_묶어_insert_한다() {
+        // given
+        User user = entityManager.persistAndFlush(new User("user@example.com", "pw", UserRole.USER));
+        StatementCounter.reset();
+
+        // when
+        for (int i = 0; i < 12; i++) {
+            entityManager.persist(new Todo("title" + i, "contents", "Sunny", user));
+        }
+        entityManager.flush();
+
+        // then
+        assertEquals(3, StatementCounter.batches("insert into todos"));
+        assertEquals(3, StatementCounter.batches("insert into managers"));
+        assertEquals(0, StatementCounter.singleUpdates("insert into"));
+        assertEquals(0, TsidGenerator.nodeOf(user.getId())); // 테스트 설정의 id.node-id
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.StatementCounter;
+import org.example.expert.domain.common.count.TotalCounter;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.listener.TodoCountListener;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// H2 에서 insert N 건이 ceil(N / batch-size) 번의 executeBatch 로 나가는지 JDBC 호출을 세어 확인한다
+@DataJpaTest
+@Import({PersistenceConfig.class, TotalCounter.class, TodoCountListener.class, StatementCounter.CountingDataSourceConfig.class})
+@TestPropertySource(properties = "hibernate.batch-size=5")
+class TodoBatchInsertTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void 할일_N건을_저장하면_batch_size_단위로_묶어_insert_한다() {
+        // given
+        User user = entityManager.persistAndFlush(new User("user@example.com", "pw", UserRole.USER));
+        StatementCounter.reset();
+
+        // when
+        for (int i = 0; i < 12; i++) {
+            entityManager.persist(new Todo("title" + i, "contents", "Sunny", user)); // Manager 도 함께 persist
+        }
+        entityManager.flush();
+
+        // then
+        assertEquals(3, StatementCounter.batches("insert into todos"));
+        assertEquals(3, StatementCounter.batches("insert into managers"));
+        assertEquals(0, StatementCounter.singleUpdates("insert into"));
+    }
+}
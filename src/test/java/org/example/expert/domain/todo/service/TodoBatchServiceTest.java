@@ -0,0 +1,151 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherCache;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoBatchServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private WeatherCache weatherCache;
+
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+
+    @Test
+    void 작성자와_날씨는_한_번만_조회하고_청크마다_트랜잭션을_나눠_저장한다() {
+        // given
+        TodoBatchService todoBatchService = todoBatchService(500);
+        given(userRepository.existsById(1L)).willReturn(true);
+        given(userRepository.getReferenceById(1L)).willReturn(writer());
+        given(weatherCache.getTodayWeatherAsync()).willReturn(CompletableFuture.completedFuture("Sunny"));
+        AtomicLong ids = new AtomicLong();
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            todos.forEach(todo -> ReflectionTestUtils.setField(todo, "id", ids.incrementAndGet()));
+            return todos;
+        });
+        List<List<TodoBatchSaveResponse>> chunks = new ArrayList<>();
+
+        // when
+        TodoBatchService.BatchContext context = todoBatchService.begin(1L);
+        todoBatchService.saveAll(context, requests(1_200), chunks::add);
+
+        // then
+        assertEquals(List.of(500, 500, 200), chunks.stream().map(List::size).toList());
+        List<TodoBatchSaveResponse> results = chunks.stream().flatMap(List::stream).toList();
+        assertEquals(IntStream.range(0, 1_200).boxed().toList(), results.stream().map(TodoBatchSaveResponse::getIndex).toList());
+        assertTrue(results.stream().allMatch(result -> TodoBatchSaveResponse.CREATED.equals(result.getStatus())));
+        assertEquals(3, transactionManager.commits);
+        verify(userRepository, times(1)).existsById(1L);
+        verify(weatherCache, times(1)).getTodayWeatherAsync();
+        verify(todoRepository, times(3)).saveAll(anyList());
+    }
+
+    @Test
+    void 실패한_청크만_FAILED_로_돌려주고_다음_청크는_계속_저장한다() {
+        // given
+        TodoBatchService todoBatchService = todoBatchService(2);
+        given(userRepository.getReferenceById(1L)).willReturn(writer());
+        given(todoRepository.saveAll(anyList()))
+                .willThrow(new DataIntegrityViolationException("duplicate"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        List<TodoBatchSaveResponse> results = new ArrayList<>();
+
+        // when
+        todoBatchService.saveAll(new TodoBatchService.BatchContext(1L, "Sunny"), requests(4), results::addAll);
+
+        // then
+        assertEquals(List.of(TodoBatchSaveResponse.FAILED, TodoBatchSaveResponse.FAILED,
+                        TodoBatchSaveResponse.CREATED, TodoBatchSaveResponse.CREATED),
+                results.stream().map(TodoBatchSaveResponse::getStatus).toList());
+        assertEquals(1, transactionManager.rollbacks);
+        assertEquals(1, transactionManager.commits);
+    }
+
+    @Test
+    void 작성자가_없으면_저장을_시작하지_않는다() {
+        // given
+        TodoBatchService todoBatchService = todoBatchService(500);
+        given(userRepository.existsById(1L)).willReturn(false);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> todoBatchService.begin(1L));
+
+        // then
+        assertEquals("User not found", exception.getMessage());
+        verifyNoInteractions(weatherCache, todoRepository);
+    }
+
+    private TodoBatchService todoBatchService(int chunkSize) {
+        TodoBatchService todoBatchService = new TodoBatchService(
+                todoRepository, userRepository, weatherCache, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(todoBatchService, "chunkSize", chunkSize);
+        return todoBatchService;
+    }
+
+    private User writer() {
+        User user = new User("user@example.com", "pw", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+
+    private List<TodoSaveRequest> requests(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TodoSaveRequest("title" + i, "contents"))
+                .toList();
+    }
+
+    private static class CountingTransactionManager implements PlatformTransactionManager {
+
+        private int commits;
+        private int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.count.TotalCounter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoDeleteServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+
+    private TodoDeleteService todoDeleteService;
+
+    @AfterEach
+    void tearDown() {
+        if (todoDeleteService != null) {
+            todoDeleteService.shutdown();
+        }
+    }
+
+    @Test
+    void 작성자가_아니면_삭제할_수_없다() {
+        // given
+        todoDeleteService = todoDeleteService(1_000, 100);
+        given(todoRepository.findWriterIdById(1L)).willReturn(Optional.of(2L));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoDeleteService.deleteTodo(1L, 1L));
+
+        // then
+        assertEquals("일정을 만든 유저만 삭제할 수 있습니다.", exception.getMessage());
+        verifyNoInteractions(commentRepository, managerRepository);
+    }
+
+    @Test
+    void 댓글이_임계치보다_많으면_백그라운드에서_청크_단위로_지운_뒤_할일을_삭제한다() {
+        // given
+        todoDeleteService = todoDeleteService(100, 100);
+        given(todoRepository.findWriterIdById(1L)).willReturn(Optional.of(1L));
+        given(commentRepository.countByTodoId(1L)).willReturn(250L);
+        given(commentRepository.findIdsByTodoId(eq(1L), any(Pageable.class)))
+                .willReturn(ids(100))
+                .willReturn(ids(100))
+                .willReturn(ids(50));
+        given(commentRepository.deleteAllByIdInBulk(anyList())).willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        given(todoRepository.deleteByIdInBulk(1L)).willReturn(1);
+
+        // when
+        TodoDeleteService.Outcome outcome = todoDeleteService.deleteTodo(1L, 1L);
+
+        // then
+        assertEquals(TodoDeleteService.Outcome.SCHEDULED, outcome);
+        verify(todoRepository, timeout(1_000)).deleteByIdInBulk(1L);
+        verify(commentRepository, times(3)).deleteAllByIdInBulk(anyList());
+        verify(commentRepository).deleteAllByTodoIdInBulk(1L);
+        verify(managerRepository).deleteAllByTodoIdInBulk(1L);
+    }
+
+    private TodoDeleteService todoDeleteService(long asyncThreshold, int chunkSize) {
+        TodoDeleteService service = new TodoDeleteService(todoRepository, commentRepository, managerRepository,
+                new TransactionTemplate(new NoOpTransactionManager()), new TotalCounter());
+        ReflectionTestUtils.setField(service, "asyncThreshold", asyncThreshold);
+        ReflectionTestUtils.setField(service, "chunkSize", chunkSize);
+        return service;
+    }
+
+    private List<Long> ids(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
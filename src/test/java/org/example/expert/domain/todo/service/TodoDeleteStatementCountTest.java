@@ -0,0 +1,61 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.StatementCounter;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.count.TotalCounter;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.listener.TodoCountListener;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 실제 댓글을 저장해 두고 삭제할 때 DB 로 나간 DELETE 문 수를 JDBC 호출로 센다
+@DataJpaTest
+@Import({TodoDeleteService.class, PersistenceConfig.class, TotalCounter.class, TodoCountListener.class,
+        StatementCounter.CountingDataSourceConfig.class})
+class TodoDeleteStatementCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TodoDeleteService todoDeleteService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void 댓글_수와_관계없이_같은_수의_DELETE_문으로_삭제한다() {
+        User user = entityManager.persist(new User("user@example.com", "pw", UserRole.USER));
+
+        for (int commentCount : new int[]{0, 10, 900}) {
+            // given
+            Todo todo = entityManager.persist(new Todo("title", "contents", "Sunny", user));
+            for (int i = 0; i < commentCount; i++) {
+                entityManager.persist(new Comment("comment" + i, user, todo));
+            }
+            entityManager.flush();
+            entityManager.clear();
+            StatementCounter.reset();
+
+            // when
+            TodoDeleteService.Outcome outcome = todoDeleteService.deleteTodo(user.getId(), todo.getId());
+
+            // then
+            assertEquals(TodoDeleteService.Outcome.DELETED, outcome);
+            assertEquals(3, StatementCounter.singleUpdates("delete from"), "댓글 " + commentCount + "건"); // 댓글, 담당자, 할일
+            assertEquals(0, StatementCounter.batches("delete from"), "댓글 " + commentCount + "건");
+            assertEquals(0, commentRepository.countByTodoId(todo.getId()));
+            assertFalse(todoRepository.existsById(todo.getId()));
+        }
+    }
+}
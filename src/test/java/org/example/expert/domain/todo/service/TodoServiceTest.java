@@ -0,0 +1,251 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.client.transport.ResilientHttpTransport;
+import org.example.expert.client.transport.TransportSettings;
+import org.example.expert.domain.common.count.CountResult;
+import org.example.expert.domain.common.count.CountStrategy;
+import org.example.expert.domain.common.count.TotalCounter;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.listener.TodoCountListener;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoServiceTest {
+
+    private static final String TODAY = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TotalCounter totalCounter;
+
+    private HttpServer weatherServer;
+
+    @AfterEach
+    void tearDown() {
+        if (weatherServer != null) {
+            weatherServer.stop(0);
+        }
+    }
+
+    @Test
+    void 날씨_응답이_느려도_트랜잭션은_저장하는_동안만_열려_있다() {
+        // given
+        long weatherDelayMillis = 500;
+        HoldTimeTransactionManager transactionManager = new HoldTimeTransactionManager();
+        TodoService todoService = todoService(weatherDelayMillis, 2_000, transactionManager);
+        givenWriter();
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(1L, new TodoSaveRequest("title", "contents"));
+
+        // then
+        assertEquals("Sunny", response.getWeather());
+        assertTrue(transactionManager.holdMillis() < weatherDelayMillis / 2,
+                "트랜잭션 유지 시간: " + transactionManager.holdMillis() + "ms");
+    }
+
+    @Test
+    void 날씨_조회가_시간_안에_끝나지_않으면_날씨_없이_저장한다() {
+        // given
+        HoldTimeTransactionManager transactionManager = new HoldTimeTransactionManager();
+        TodoService todoService = todoService(2_000, 200, transactionManager);
+        givenWriter();
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(1L, new TodoSaveRequest("title", "contents"));
+
+        // then
+        assertNull(response.getWeather());
+        assertTrue(transactionManager.holdMillis() < 200,
+                "트랜잭션 유지 시간: " + transactionManager.holdMillis() + "ms");
+    }
+
+    @Test
+    void 커서_목록은_한_건_더_읽어_다음_커서를_만들고_그_커서부터_이어서_조회한다() {
+        // given
+        TodoService todoService = new TodoService(todoRepository, userRepository, null, null, null);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000);
+        List<TodoResponse> firstRows = List.of(todo(3L, now), todo(2L, now), todo(1L, now.minusSeconds(1)));
+        given(todoRepository.findFirstSlice(any(Pageable.class))).willReturn(firstRows);
+        given(todoRepository.findSliceAfter(eq(now), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(todo(1L, now.minusSeconds(1))));
+
+        // when
+        CursorSliceResponse<TodoResponse> first = todoService.getTodosByCursor(null, 2);
+        CursorSliceResponse<TodoResponse> second = todoService.getTodosByCursor(first.getNextCursor(), 2);
+
+        // then
+        assertEquals(List.of(3L, 2L), first.getContent().stream().map(TodoResponse::getId).toList());
+        assertTrue(first.isHasNext());
+        assertEquals(new TodoCursor(now, 2L), TodoCursor.decode(first.getNextCursor()));
+        assertEquals(List.of(1L), second.getContent().stream().map(TodoResponse::getId).toList());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void 해석할_수_없는_커서는_예외가_발생한다() {
+        // given
+        TodoService todoService = new TodoService(todoRepository, userRepository, null, null, null);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodosByCursor("not-a-cursor", 10));
+
+        // then
+        assertEquals("잘못된 커서입니다.", exception.getMessage());
+    }
+
+    @Test
+    void 오프셋_목록은_1부터_시작하는_페이지와_근사_개수를_응답하고_읽은_행보다_작게_보고하지_않는다() {
+        // given
+        TodoService todoService = new TodoService(todoRepository, userRepository, null, null, totalCounter);
+        ReflectionTestUtils.setField(todoService, "todoCountStrategy", CountStrategy.CACHED);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        given(todoRepository.findResponsesOrderByModifiedAtDesc(PageRequest.of(1, 2)))
+                .willReturn(new SliceImpl<>(List.of(todo(3L, now), todo(2L, now)), PageRequest.of(1, 2), true));
+        // 캐시된 개수(3)가 그 사이 늘어난 행을 반영하지 못한 상황
+        given(totalCounter.count(eq(TodoCountListener.COUNT_KEY), eq(CountStrategy.CACHED), any()))
+                .willReturn(new CountResult(3, true));
+
+        // when
+        PageResponse<TodoResponse> response = todoService.getTodos(2, 2);
+
+        // then
+        assertEquals(2, response.getPage());
+        assertEquals(List.of(3L, 2L), response.getContent().stream().map(TodoResponse::getId).toList());
+        assertTrue(response.isHasNext());
+        assertTrue(response.isApproximate());
+        assertEquals(5, response.getTotalElements()); // 앞 페이지 2 + 이번 페이지 2 + 다음 페이지 최소 1
+        assertEquals(3, response.getTotalPages());
+    }
+
+    private TodoResponse todo(Long id, LocalDateTime modifiedAt) {
+        return new TodoResponse(id, "title" + id, "contents", "Sunny", 1L, "user@example.com", modifiedAt, modifiedAt);
+    }
+
+    private void givenWriter() {
+        User user = new User("user@example.com", "pw", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> {
+            Todo todo = invocation.getArgument(0);
+            ReflectionTestUtils.setField(todo, "id", 1L);
+            return todo;
+        });
+    }
+
+    private TodoService todoService(long weatherDelayMillis, long lookupTimeoutMillis,
+                                    PlatformTransactionManager transactionManager) {
+        startWeatherServer(weatherDelayMillis);
+        String baseUrl = "http://localhost:" + weatherServer.getAddress().getPort();
+
+        ResilientHttpTransport transport = new ResilientHttpTransport("weather", new TransportSettings(
+                Duration.ofSeconds(1), Duration.ofSeconds(5), 8, Duration.ofMillis(50), 5, Duration.ofSeconds(10), Duration.ZERO));
+        WeatherCache weatherCache = new WeatherCache(new WeatherClient(transport, new ObjectMapper(), baseUrl));
+        ReflectionTestUtils.setField(weatherCache, "ttlMillis", 86_400_000L);
+        ReflectionTestUtils.setField(weatherCache, "serveStale", true);
+        ReflectionTestUtils.setField(weatherCache, "retryBackoffMillis", 30_000L);
+        ReflectionTestUtils.setField(weatherCache, "loadTimeoutMillis", 5_000L);
+        ReflectionTestUtils.setField(weatherCache, "lookupTimeoutMillis", lookupTimeoutMillis);
+
+        return new TodoService(todoRepository, userRepository, weatherCache, new TransactionTemplate(transactionManager), null);
+    }
+
+    // 응답을 일부러 늦게 주는 로컬 날씨 API
+    private void startWeatherServer(long delayMillis) {
+        try {
+            weatherServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] body = ("[{\"date\":\"" + TODAY + "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+        weatherServer.createContext("/f-api/weather.json", exchange -> {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        weatherServer.start();
+    }
+
+    // 트랜잭션 시작부터 커밋까지, 즉 커넥션을 잡고 있는 시간을 잰다
+    private static class HoldTimeTransactionManager implements PlatformTransactionManager {
+
+        private long begunAt;
+        private long endedAt;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            begunAt = System.nanoTime();
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            endedAt = System.nanoTime();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            endedAt = System.nanoTime();
+        }
+
+        long holdMillis() {
+            return (endedAt - begunAt) / 1_000_000;
+        }
+    }
+}
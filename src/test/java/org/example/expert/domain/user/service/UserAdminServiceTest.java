@@ -0,0 +1,50 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.auth.cache.RefreshTokenStore;
+import org.example.expert.domain.auth.cache.TokenEpochCache;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserAdminServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+    @Mock
+    private TokenEpochCache tokenEpochCache;
+    @InjectMocks
+    private UserAdminService userAdminService;
+
+    @Test
+    void 권한을_바꾸면_토큰_버전을_올리고_재발급_캐시를_비운다() {
+        // given
+        User user = new User("admin@example.com", "pw", UserRole.ADMIN);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        // when
+        userAdminService.changeUserRole(1L, new UserRoleChangeRequest("USER"));
+
+        // then
+        assertEquals(UserRole.USER, user.getUserRole());
+        assertEquals(1L, user.getTokenVersion());
+        verify(tokenEpochCache).updateAfterCommit(1L, 1L);
+        verify(refreshTokenStore).evict(1L);
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private AuthService authService;
+
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(userRepository, passwordEncoder, authService, new TransactionTemplate(transactionManager));
+        User user = new User("user@example.com", "old-hash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("new-password", "old-hash")).willReturn(false);
+        given(passwordEncoder.matches("old-password", "old-hash")).willReturn(true);
+        given(passwordEncoder.encode("new-password")).willAnswer(invocation -> {
+            assertFalse(transactionManager.active); // bcrypt 동안 트랜잭션(커넥션)을 잡지 않는다
+            return "new-hash";
+        });
+    }
+
+    @Test
+    void 비밀번호_해싱은_트랜잭션_밖에서_하고_저장과_토큰_무효화만_트랜잭션으로_처리한다() {
+        // given
+        given(userRepository.updatePasswordIfUnchanged(1L, "old-hash", "new-hash")).willReturn(1);
+
+        // when
+        userService.changePassword(1L, new UserChangePasswordRequest("old-password", "new-password"));
+
+        // then
+        assertEquals(1, transactionManager.commits);
+        verify(authService).invalidateUserTokens(1L);
+    }
+
+    @Test
+    void 검증_이후_비밀번호가_바뀌었으면_덮어쓰지_않고_거절한다() {
+        // given
+        given(userRepository.updatePasswordIfUnchanged(1L, "old-hash", "new-hash")).willReturn(0);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userService.changePassword(1L, new UserChangePasswordRequest("old-password", "new-password")));
+
+        // then
+        assertEquals("비밀번호가 그 사이 변경되었습니다. 다시 시도해 주세요.", exception.getMessage());
+        assertEquals(0, transactionManager.commits);
+        verify(authService, never()).invalidateUserTokens(anyLong());
+    }
+
+    private static class RecordingTransactionManager implements PlatformTransactionManager {
+
+        private boolean active;
+        private int commits;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            active = true;
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            active = false;
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            active = false;
+        }
+    }
+}
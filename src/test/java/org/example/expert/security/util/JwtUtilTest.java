@@ -0,0 +1,107 @@
+package org.example.expert.security.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes();
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(SECRET));
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 100);
+        jwtUtil.init();
+    }
+
+    @Test
+    void 같은_토큰은_한_번만_검증하고_캐시된_결과를_돌려준다() {
+        // given
+        String token = accessToken(1L, 3L);
+
+        // when
+        VerifiedToken first = jwtUtil.verifyAccessToken(token);
+        VerifiedToken second = jwtUtil.verifyAccessToken(token);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1L, first.principal().getId());
+        assertEquals("USER", first.principal().getRole());
+        assertEquals(3L, first.tokenVersion());
+    }
+
+    @Test
+    void 서명이_다른_토큰은_거부한다() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(new SecretKeySpec("another-secret-another-secret-!!".getBytes(), "HmacSHA256"), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertThrows(JwtException.class, () -> jwtUtil.verifyAccessToken(token));
+    }
+
+    @Test
+    void 만료된_토큰은_캐시에_남지_않고_거부된다() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(new SecretKeySpec(SECRET, "HmacSHA256"), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verifyAccessToken(token));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verifyAccessToken(token));
+    }
+
+    @Test
+    void 캐시가_가득_차면_새_토큰은_캐시하지_않고_검증만_한다() {
+        // given
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 1);
+        String cachedToken = accessToken(1L, 0L);
+        String overflowToken = accessToken(2L, 0L);
+        jwtUtil.verifyAccessToken(cachedToken);
+
+        // when
+        VerifiedToken first = jwtUtil.verifyAccessToken(overflowToken);
+        VerifiedToken second = jwtUtil.verifyAccessToken(overflowToken);
+
+        // then
+        assertEquals(2L, first.principal().getId());
+        assertNotSame(first, second);
+        assertSame(jwtUtil.verifyAccessToken(cachedToken), jwtUtil.verifyAccessToken(cachedToken));
+    }
+
+    @Test
+    void 같은_시각에_발급한_리프레시_토큰도_jti_가_달라_서로_다르다() {
+        // given & when
+        String first = jwtUtil.createRefreshToken();
+        String second = jwtUtil.createRefreshToken();
+
+        // then
+        assertNotEquals(first, second);
+        assertNotEquals(jwtUtil.extractClaims(first).getId(), jwtUtil.extractClaims(second).getId());
+        assertNotEquals(TokenDigest.sha256Hex(first), TokenDigest.sha256Hex(second));
+    }
+
+    private String accessToken(Long userId, long tokenVersion) {
+        return jwtUtil.createAccessToken(userId, "user@example.com", "USER", tokenVersion).substring("Bearer ".length());
+    }
+}